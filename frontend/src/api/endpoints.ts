@@ -11,6 +11,10 @@ import type {
   ModuleProgressRequest,
   UserProgressReport,
   CourseProgressReport,
+  Page,
+  CourseSearchHit,
+  ReorderMove,
+  CourseVersion,
 } from "../types";
 
 const buildUrl = (path: string) => `${API_BASE_URL}${path}`;
@@ -29,12 +33,31 @@ export const AuthApi = {
 };
 
 export const CursosApi = {
-  list(token: string): Promise<CourseSummary[]> {
-    return apiRequest<CourseSummary[]>(buildUrl("/cursos"), {}, token);
+  // Una pagina por llamada: la siguiente se pide con el nextCursor de la anterior.
+  list(token: string, cursor?: string | null, status?: CourseSummary["status"], limit = 20): Promise<Page<CourseSummary>> {
+    const params = new URLSearchParams({ limit: String(limit) });
+    if (cursor) {
+      params.set("cursor", cursor);
+    }
+    if (status) {
+      params.set("status", status);
+    }
+    return apiRequest<Page<CourseSummary>>(buildUrl(`/cursos?${params}`), {}, token);
+  },
+  search(token: string, query: string, cursor?: string | null): Promise<Page<CourseSearchHit>> {
+    const params = new URLSearchParams({ q: query });
+    if (cursor) {
+      params.set("cursor", cursor);
+    }
+    return apiRequest<Page<CourseSearchHit>>(buildUrl(`/cursos/buscar?${params}`), {}, token);
   },
   detail(token: string, id: string): Promise<CourseDetail> {
     return apiRequest<CourseDetail>(buildUrl(`/cursos/${id}`), {}, token);
   },
+  details(token: string, ids: string[]): Promise<CourseDetail[]> {
+    const params = new URLSearchParams({ ids: ids.join(",") });
+    return apiRequest<CourseDetail[]>(buildUrl(`/cursos/lote?${params}`), {}, token);
+  },
   create(token: string, payload: Partial<CourseDetail>): Promise<CourseSummary> {
     return apiRequest<CourseSummary>(buildUrl("/cursos"), {
       method: "POST",
@@ -50,6 +73,15 @@ export const CursosApi = {
   remove(token: string, id: string): Promise<void> {
     return apiRequest<void>(buildUrl(`/cursos/${id}`), { method: "DELETE" }, token);
   },
+  publish(token: string, id: string): Promise<CourseVersion> {
+    return apiRequest<CourseVersion>(buildUrl(`/cursos/${id}/publicar`), { method: "POST" }, token);
+  },
+  clone(token: string, id: string, payload: { code: string; title?: string }): Promise<CourseSummary> {
+    return apiRequest<CourseSummary>(buildUrl(`/cursos/${id}/clonar`), {
+      method: "POST",
+      body: JSON.stringify(payload),
+    }, token);
+  },
 };
 
 export const ModulosApi = {
@@ -70,6 +102,12 @@ export const ModulosApi = {
       method: "DELETE",
     }, token);
   },
+  reorder(token: string, courseId: string, moves: ReorderMove[]) {
+    return apiRequest(buildUrl(`/cursos/${courseId}/modulos/orden`), {
+      method: "PUT",
+      body: JSON.stringify({ moves }),
+    }, token);
+  },
 };
 
 export const CapitulosApi = {
@@ -90,6 +128,12 @@ export const CapitulosApi = {
       method: "DELETE",
     }, token);
   },
+  reorder(token: string, courseId: string, moduleId: string, moves: ReorderMove[]) {
+    return apiRequest(buildUrl(`/cursos/${courseId}/modulos/${moduleId}/capitulos/orden`), {
+      method: "PUT",
+      body: JSON.stringify({ moves }),
+    }, token);
+  },
 };
 
 export const InscripcionesApi = {
@@ -116,11 +160,37 @@ export const InscripcionesApi = {
   },
 };
 
+export interface UserDirectoryFilter {
+  role?: UserProfile["role"];
+  provider?: string;
+  enabled?: boolean;
+  q?: string;
+}
+
+export const UsuariosApi = {
+  list(token: string, filter: UserDirectoryFilter = {}, cursor?: string | null): Promise<Page<UserProfile>> {
+    const params = new URLSearchParams();
+    Object.entries(filter).forEach(([key, value]) => {
+      if (value !== undefined && value !== "") {
+        params.set(key, String(value));
+      }
+    });
+    if (cursor) {
+      params.set("cursor", cursor);
+    }
+    return apiRequest<Page<UserProfile>>(buildUrl(`/usuarios?${params}`), {}, token);
+  },
+};
+
 export const ReportesApi = {
   userProgress(token: string, userId: string): Promise<UserProgressReport> {
     return apiRequest<UserProgressReport>(buildUrl(`/reportes/usuarios/${userId}`), {}, token);
   },
-  courseProgress(token: string, courseId: string): Promise<CourseProgressReport> {
-    return apiRequest<CourseProgressReport>(buildUrl(`/reportes/cursos/${courseId}`), {}, token);
+  courseProgress(token: string, courseId: string, cursor?: string | null): Promise<CourseProgressReport> {
+    const params = new URLSearchParams();
+    if (cursor) {
+      params.set("cursor", cursor);
+    }
+    return apiRequest<CourseProgressReport>(buildUrl(`/reportes/cursos/${courseId}?${params}`), {}, token);
   },
 };
\ No newline at end of file
@@ -24,6 +24,17 @@ export const AdminReportsPage: React.FC = () => {
     }
   };
 
+  const handleMoreParticipants = async () => {
+    if (!token || !courseReport?.nextCursor) return;
+    try {
+      const page = await ReportesApi.courseProgress(token, courseReport.courseId, courseReport.nextCursor);
+      setCourseReport({ ...page, participants: [...courseReport.participants, ...page.participants] });
+      setError(null);
+    } catch (err) {
+      setError(err instanceof Error ? err.message : "No se pudo generar el reporte de curso");
+    }
+  };
+
   const handleCourseReport = async (event: FormEvent<HTMLFormElement>) => {
     event.preventDefault();
     if (!token || !courseQuery) return;
@@ -98,6 +109,11 @@ export const AdminReportsPage: React.FC = () => {
                 </li>
               ))}
             </ul>
+            {courseReport.nextCursor && (
+              <button className="button secondary" type="button" onClick={handleMoreParticipants}>
+                Cargar mas participantes
+              </button>
+            )}
           </div>
         )}
       </section>
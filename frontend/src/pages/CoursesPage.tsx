@@ -11,6 +11,7 @@ export const CoursesPage: React.FC<CoursesPageProps> = ({ adminMode = false }) =
   const { token, decodedToken } = useAuth();
   const navigate = useNavigate();
   const [courses, setCourses] = useState<CourseSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [enrollments, setEnrollments] = useState<Enrollment[]>([]);
   const [form, setForm] = useState<Partial<CourseDetail>>({
     code: "",
@@ -37,11 +38,12 @@ export const CoursesPage: React.FC<CoursesPageProps> = ({ adminMode = false }) =
     if (!token || !userId) return;
     const fetchData = async () => {
       try {
-        const [courseList, enrollmentList] = await Promise.all([
+        const [coursePage, enrollmentList] = await Promise.all([
           CursosApi.list(token),
           InscripcionesApi.list(token, userId),
         ]);
-        setCourses(courseList);
+        setCourses(coursePage.items);
+        setNextCursor(coursePage.nextCursor ?? null);
         setEnrollments(enrollmentList);
       } catch (err) {
         setError(err instanceof Error ? err.message : "Error cargando cursos");
@@ -52,6 +54,18 @@ export const CoursesPage: React.FC<CoursesPageProps> = ({ adminMode = false }) =
     void fetchData();
   }, [token, userId]);
 
+  const handleMoreCourses = async () => {
+    if (!token || !nextCursor) return;
+    try {
+      const page = await CursosApi.list(token, nextCursor);
+      setCourses((prev) => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor ?? null);
+      setError(null);
+    } catch (err) {
+      setError(err instanceof Error ? err.message : "Error cargando cursos");
+    }
+  };
+
   const handleCreateCourse = async (event: FormEvent<HTMLFormElement>) => {
     event.preventDefault();
     if (!token) return;
@@ -156,6 +170,7 @@ export const CoursesPage: React.FC<CoursesPageProps> = ({ adminMode = false }) =
                 <th>Código</th>
                 <th>Título</th>
                 <th>Estado</th>
+                <th>Contenido</th>
                 <th>Actualizado</th>
                 <th></th>
               </tr>
@@ -166,6 +181,7 @@ export const CoursesPage: React.FC<CoursesPageProps> = ({ adminMode = false }) =
                   <td>{course.code}</td>
                   <td>{course.title}</td>
                   <td>{course.status}</td>
+                  <td>{course.moduleCount} módulos · {course.chapterCount} capítulos · {course.totalMinutes} min</td>
                   <td>{new Date(course.updatedAt).toLocaleDateString()}</td>
                   <td className="actions">
                     <button className="button secondary" onClick={() => navigate(`/cursos/${course.id}`)}>
@@ -187,6 +203,11 @@ export const CoursesPage: React.FC<CoursesPageProps> = ({ adminMode = false }) =
             </tbody>
           </table>
         )}
+        {nextCursor && (
+          <button className="button secondary" type="button" onClick={handleMoreCourses}>
+            Cargar mas cursos
+          </button>
+        )}
       </section>
     </div>
   );
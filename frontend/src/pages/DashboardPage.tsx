@@ -1,24 +1,32 @@
 import { useEffect, useMemo, useState } from "react";
 import { useAuth } from "../context/AuthContext";
-import type { CourseSummary, Enrollment } from "../types";
+import type { CourseDetail, Enrollment } from "../types";
 import { CursosApi, InscripcionesApi } from "../api/endpoints";
 
 export const DashboardPage: React.FC = () => {
   const { token, decodedToken } = useAuth();
   const [enrollments, setEnrollments] = useState<Enrollment[]>([]);
-  const [courses, setCourses] = useState<CourseSummary[]>([]);
+  const [publishedCount, setPublishedCount] = useState<string>("0");
+  const [recentCourses, setRecentCourses] = useState<Record<string, CourseDetail>>({});
   const [error, setError] = useState<string | null>(null);
 
   useEffect(() => {
     if (!token || !decodedToken) return;
     const fetchData = async () => {
       try {
-        const [enrollmentList, courseList] = await Promise.all([
+        // Una sola pagina de publicados: si hay mas se muestra "100+" en vez de descargar el catalogo.
+        const [enrollmentList, publishedPage] = await Promise.all([
           InscripcionesApi.list(token, decodedToken.sub),
-          CursosApi.list(token),
+          CursosApi.list(token, null, "PUBLISHED", 100),
         ]);
         setEnrollments(enrollmentList);
-        setCourses(courseList);
+        setPublishedCount(`${publishedPage.items.length}${publishedPage.nextCursor ? "+" : ""}`);
+        // Los cursos recientes se piden en una sola llamada en vez de un detalle por inscripcion.
+        const recentIds = enrollmentList.slice(0, 5).map((enrollment) => enrollment.courseId);
+        if (recentIds.length > 0) {
+          const details = await CursosApi.details(token, recentIds);
+          setRecentCourses(Object.fromEntries(details.map((course) => [course.id, course])));
+        }
       } catch (err) {
         setError(err instanceof Error ? err.message : "Error cargando información");
       }
@@ -26,12 +34,11 @@ export const DashboardPage: React.FC = () => {
     void fetchData();
   }, [token, decodedToken]);
 
-  const { activos, enProgreso, completados } = useMemo(() => {
-    const activos = courses.filter((course) => course.status === "PUBLISHED").length;
+  const { enProgreso, completados } = useMemo(() => {
     const enProgreso = enrollments.filter((ins) => ins.status === "EN_PROGRESO").length;
     const completados = enrollments.filter((ins) => ins.status === "COMPLETADO").length;
-    return { activos, enProgreso, completados };
-  }, [courses, enrollments]);
+    return { enProgreso, completados };
+  }, [enrollments]);
 
   return (
     <div className="dashboard-grid">
@@ -43,7 +50,7 @@ export const DashboardPage: React.FC = () => {
           <div className="stats-grid">
             <div>
               <span className="stat-label">Cursos publicados</span>
-              <span className="stat-value">{activos}</span>
+              <span className="stat-value">{publishedCount}</span>
             </div>
             <div>
               <span className="stat-label">En progreso</span>
@@ -65,7 +72,7 @@ export const DashboardPage: React.FC = () => {
           <ul className="list">
             {enrollments.slice(0, 5).map((enrollment) => (
               <li key={enrollment.id}>
-                <span>{enrollment.courseId}</span>
+                <span>{recentCourses[enrollment.courseId]?.title ?? enrollment.courseId}</span>
                 <span className={`status ${enrollment.status.toLowerCase()}`}>{enrollment.status}</span>
               </li>
             ))}
@@ -33,10 +33,37 @@ export interface CourseSummary {
   title: string;
   description?: string;
   status: "DRAFT" | "PUBLISHED" | "ARCHIVED";
+  moduleCount: number;
+  chapterCount: number;
+  totalMinutes: number;
   createdAt: string;
   updatedAt: string;
 }
 
+export interface Page<T> {
+  items: T[];
+  nextCursor?: string | null;
+}
+
+export interface ReorderMove {
+  id: string;
+  afterId?: string | null;
+}
+
+export interface SearchHighlight {
+  field: "title" | "description" | "module" | "chapter";
+  fragment: string;
+}
+
+export interface CourseSearchHit {
+  id: string;
+  code: string;
+  title: string;
+  status: CourseSummary["status"];
+  score: number;
+  highlights: SearchHighlight[];
+}
+
 export interface Chapter {
   id: string;
   title: string;
@@ -57,7 +84,14 @@ export interface Module {
   chapters: Chapter[];
 }
 
-export interface CourseDetail extends CourseSummary {
+export interface CourseVersion {
+  id: string;
+  courseId: string;
+  version: number;
+  publishedAt: string;
+}
+
+export interface CourseDetail extends Omit<CourseSummary, "moduleCount" | "chapterCount" | "totalMinutes"> {
   modules: Module[];
 }
 
@@ -104,6 +138,7 @@ export interface CourseProgressReport {
   courseId: string;
   totalsByStatus: Record<string, number>;
   participants: CourseParticipantProgress[];
+  nextCursor?: string | null;
 }
 
 export interface UserProgressReport {
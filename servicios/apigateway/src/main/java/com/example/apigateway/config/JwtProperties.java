@@ -1,11 +1,15 @@
 package com.example.apigateway.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
 
     private String secret;
+    // Secreto compartido con cursos y usuarios para firmar X-User-Context; vacio desactiva la cabecera.
+    private String identitySecret;
+    private Duration identityTtl = Duration.ofSeconds(30);
 
     public String getSecret() {
         return secret;
@@ -14,4 +18,20 @@ public class JwtProperties {
     public void setSecret(String secret) {
         this.secret = secret;
     }
+
+    public String getIdentitySecret() {
+        return identitySecret;
+    }
+
+    public void setIdentitySecret(String identitySecret) {
+        this.identitySecret = identitySecret;
+    }
+
+    public Duration getIdentityTtl() {
+        return identityTtl;
+    }
+
+    public void setIdentityTtl(Duration identityTtl) {
+        this.identityTtl = identityTtl;
+    }
 }
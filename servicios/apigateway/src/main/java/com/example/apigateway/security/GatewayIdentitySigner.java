@@ -0,0 +1,63 @@
+package com.example.apigateway.security;
+
+import com.example.apigateway.config.JwtProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Firma la identidad ya verificada por el gateway para que cursos y usuarios no vuelvan a parsear el JWT.
+ * Formato: base64url(id \n email \n rol \n exp) "." base64url(HMAC-SHA256 de la primera parte).
+ */
+@Component
+public class GatewayIdentitySigner {
+
+    public static final String HEADER = "X-User-Context";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtProperties properties;
+    private final SecretKeySpec key;
+
+    public GatewayIdentitySigner(JwtProperties properties) {
+        this.properties = properties;
+        String secret = properties.getIdentitySecret();
+        if (StringUtils.hasText(secret)) {
+            Assert.isTrue(secret.length() >= 32, "La propiedad jwt.identity-secret debe tener al menos 32 caracteres");
+            this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        } else {
+            this.key = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    // Nunca vive mas que el propio token.
+    public String sign(String userId, String email, String role, Instant tokenExpiresAt) {
+        Instant expiresAt = Instant.now().plus(properties.getIdentityTtl());
+        if (tokenExpiresAt != null && tokenExpiresAt.isBefore(expiresAt)) {
+            expiresAt = tokenExpiresAt;
+        }
+        String claims = String.join("\n", userId, email, role, Long.toString(expiresAt.getEpochSecond()));
+        String payload = ENCODER.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("No se pudo firmar la identidad", ex);
+        }
+    }
+}
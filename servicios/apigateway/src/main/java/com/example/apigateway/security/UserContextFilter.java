@@ -4,6 +4,7 @@ import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.core.Ordered;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -12,21 +13,38 @@ import reactor.core.publisher.Mono;
 @Component
 public class UserContextFilter implements GlobalFilter, Ordered {
 
+    private final GatewayIdentitySigner identitySigner;
+
+    public UserContextFilter(GatewayIdentitySigner identitySigner) {
+        this.identitySigner = identitySigner;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        return exchange.getPrincipal()
+        // La cabecera firmada solo puede venir del gateway, nunca del cliente.
+        ServerWebExchange stripped = exchange.mutate()
+                .request(exchange.getRequest().mutate()
+                        .headers(headers -> headers.remove(GatewayIdentitySigner.HEADER))
+                        .build())
+                .build();
+        return stripped.getPrincipal()
                 .flatMap(principal -> {
                     if (principal instanceof JwtAuthenticationToken token) {
-                        ServerHttpRequest mutated = exchange.getRequest().mutate()
-                                .header("X-User-Id", token.getToken().getSubject())
-                                .header("X-User-Email", token.getToken().getClaimAsString("email"))
-                                .header("X-User-Role", token.getToken().getClaimAsString("role"))
-                                .build();
-                        return chain.filter(exchange.mutate().request(mutated).build());
+                        Jwt jwt = token.getToken();
+                        ServerHttpRequest.Builder request = stripped.getRequest().mutate()
+                                .header("X-User-Id", jwt.getSubject())
+                                .header("X-User-Email", jwt.getClaimAsString("email"))
+                                .header("X-User-Role", jwt.getClaimAsString("role"));
+                        if (identitySigner.isEnabled()) {
+                            request.header(GatewayIdentitySigner.HEADER, identitySigner.sign(
+                                    jwt.getSubject(), jwt.getClaimAsString("email"), jwt.getClaimAsString("role"),
+                                    jwt.getExpiresAt()));
+                        }
+                        return chain.filter(stripped.mutate().request(request.build()).build());
                     }
-                    return chain.filter(exchange);
+                    return chain.filter(stripped);
                 })
-                .switchIfEmpty(chain.filter(exchange));
+                .switchIfEmpty(Mono.defer(() -> chain.filter(stripped)));
     }
 
     @Override
@@ -0,0 +1,98 @@
+package com.example.cursos.benchmark;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.CourseImportRequest;
+import com.example.cursos.dto.ModuleImportRequest;
+import com.example.cursos.entity.ChapterEntity;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.entity.ModuleEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Arboles de curso en memoria para los benchmarks: 10 capitulos por modulo y colecciones desordenadas,
+// como llegan de Hibernate, para que el mapeo tenga que ordenar.
+final class CourseFixtures {
+
+    static final int CHAPTERS_PER_MODULE = 10;
+    private static final int CONTENT_LENGTH = 2048;
+
+    private CourseFixtures() {
+    }
+
+    static CourseEntity course(int chapters, boolean withContent) {
+        Random random = new Random(42);
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        String content = withContent ? content(random) : null;
+        CourseEntity course = CourseEntity.builder()
+                .id(UUID.randomUUID())
+                .code("BENCH-" + chapters)
+                .title("Curso de " + chapters + " capitulos")
+                .description("Descripcion del curso")
+                .status(CourseStatus.PUBLISHED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        List<ModuleEntity> modules = new ArrayList<>();
+        for (int m = 0; m * CHAPTERS_PER_MODULE < chapters; m++) {
+            ModuleEntity module = ModuleEntity.builder()
+                    .id(UUID.randomUUID())
+                    .course(course)
+                    .title("Modulo " + m)
+                    .summary("Resumen " + m)
+                    .orderIndex((m + 1) * 1024)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            List<ChapterEntity> moduleChapters = new ArrayList<>();
+            int count = Math.min(CHAPTERS_PER_MODULE, chapters - m * CHAPTERS_PER_MODULE);
+            for (int c = 0; c < count; c++) {
+                moduleChapters.add(ChapterEntity.builder()
+                        .id(UUID.randomUUID())
+                        .module(module)
+                        .title("Capitulo " + m + "." + c)
+                        .content(content)
+                        .orderIndex((c + 1) * 1024)
+                        .durationMinutes(5 + c)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+            }
+            Collections.shuffle(moduleChapters, random);
+            module.setChapters(new LinkedHashSet<>(moduleChapters));
+            modules.add(module);
+        }
+        Collections.shuffle(modules, random);
+        course.setModules(new LinkedHashSet<>(modules));
+        return course;
+    }
+
+    static CourseImportRequest importRequest(int chapters, boolean withContent) {
+        String content = withContent ? content(new Random(42)) : null;
+        List<ModuleImportRequest> modules = new ArrayList<>();
+        for (int m = 0; m * CHAPTERS_PER_MODULE < chapters; m++) {
+            List<ChapterRequest> moduleChapters = new ArrayList<>();
+            int count = Math.min(CHAPTERS_PER_MODULE, chapters - m * CHAPTERS_PER_MODULE);
+            for (int c = 0; c < count; c++) {
+                moduleChapters.add(new ChapterRequest("Capitulo " + m + "." + c, content, c + 1, 5 + c));
+            }
+            modules.add(new ModuleImportRequest("Modulo " + m, "Resumen " + m, m, moduleChapters));
+        }
+        return new CourseImportRequest("BENCH-" + chapters, "Curso de " + chapters + " capitulos",
+                "Descripcion del curso", CourseStatus.PUBLISHED, modules);
+    }
+
+    private static String content(Random random) {
+        StringBuilder text = new StringBuilder(CONTENT_LENGTH);
+        while (text.length() < CONTENT_LENGTH) {
+            text.append("palabra").append(random.nextInt(1000)).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.cursos.benchmark;
+
+import com.example.cursos.dto.CourseResponse;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.ModuleEntity;
+import com.example.cursos.mapper.CourseMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Mapeo entidad -> respuesta del detalle, incluido el ordenado de modulos y capitulos en cada llamada.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseMapperBenchmark {
+
+    @Param({"5", "50", "500", "2000"})
+    private int chapters;
+
+    @Param({"true", "false"})
+    private boolean withContent;
+
+    private CourseEntity course;
+    private ModuleEntity module;
+
+    @Setup
+    public void setUp() {
+        course = CourseFixtures.course(chapters, withContent);
+        module = course.getModules().iterator().next();
+    }
+
+    @Benchmark
+    public CourseResponse toResponse() {
+        return CourseMapper.toResponse(course);
+    }
+
+    @Benchmark
+    public ModuleResponse toModuleResponse() {
+        return CourseMapper.toModuleResponse(module);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.cursos.benchmark;
+
+import com.example.cursos.dto.CourseResponse;
+import com.example.cursos.mapper.CourseMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Serializacion del detalle con la misma configuracion de Jackson que usa Spring en el servicio.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseSerializationBenchmark {
+
+    @Param({"5", "50", "500", "2000"})
+    private int chapters;
+
+    @Param({"true", "false"})
+    private boolean withContent;
+
+    private ObjectMapper objectMapper;
+    private CourseResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = CourseMapper.toResponse(CourseFixtures.course(chapters, withContent));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
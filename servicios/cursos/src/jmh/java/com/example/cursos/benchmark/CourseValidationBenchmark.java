@@ -0,0 +1,52 @@
+package com.example.cursos.benchmark;
+
+import com.example.cursos.dto.CourseImportRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// Validacion de un arbol completo como la que hace CourseImportService por cada linea importada.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseValidationBenchmark {
+
+    @Param({"5", "50", "500", "2000"})
+    private int chapters;
+
+    @Param({"true", "false"})
+    private boolean withContent;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CourseImportRequest request;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        request = CourseFixtures.importRequest(chapters, withContent);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CourseImportRequest>> validateImport() {
+        return validator.validate(request);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.cursos.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String COURSE_SUMMARIES = "cursos.resumen";
+    public static final String COURSE_DETAILS = "cursos.detalle";
+    public static final String COURSE_OUTLINES = "cursos.temario";
+    public static final String COURSE_VERSIONS = "cursos.version";
+    public static final String COURSE_SNAPSHOTS = "cursos.snapshot";
+    public static final String COURSE_PUBLICATIONS = "cursos.publicacion";
+    public static final String PUBLISHED_VERSIONS = "cursos.versiones-publicadas";
+    public static final String CATALOG_VERSION_KEY = "catalogo";
+
+    // Las versiones publicadas son inmutables: no expiran, solo salen de la cache por tamano.
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> publishedVersionsCache(
+            @Value("${cursos.cache.versiones-publicadas.max-entries:500}") long maxEntries) {
+        return cacheManager -> cacheManager.registerCustomCache(PUBLISHED_VERSIONS,
+                Caffeine.newBuilder().maximumSize(maxEntries).recordStats().build());
+    }
+}
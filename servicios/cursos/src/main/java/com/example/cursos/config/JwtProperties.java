@@ -6,6 +6,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class JwtProperties {
 
     private String secret;
+    // Mismo secreto que jwt.identity-secret del gateway; vacio ignora X-User-Context.
+    private String identitySecret;
 
     public String getSecret() {
         return secret;
@@ -14,4 +16,12 @@ public class JwtProperties {
     public void setSecret(String secret) {
         this.secret = secret;
     }
+
+    public String getIdentitySecret() {
+        return identitySecret;
+    }
+
+    public void setIdentitySecret(String identitySecret) {
+        this.identitySecret = identitySecret;
+    }
 }
@@ -2,15 +2,27 @@ package com.example.cursos.controller;
 
 import com.example.cursos.dto.ChapterRequest;
 import com.example.cursos.dto.ChapterResponse;
-import com.example.cursos.dto.CourseResponse;
-import com.example.cursos.dto.ModuleResponse;
-import com.example.cursos.exception.ResourceNotFoundException;
+import com.example.cursos.dto.ReorderRequest;
+import com.example.cursos.entity.CompressedTextConverter;
+import com.example.cursos.repository.CourseVersion;
+import com.example.cursos.service.ChapterContent;
 import com.example.cursos.service.ChapterService;
 import com.example.cursos.service.CourseService;
+import com.example.cursos.service.CourseVersionService;
+import com.example.cursos.service.PublishedCourse;
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,27 +31,89 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/cursos/{courseId}/modulos/{moduleId}/capitulos")
 public class ChapterController {
 
-    private final ChapterService chapterService;
     private final CourseService courseService;
+    private final ChapterService chapterService;
+    private final CourseVersionService versionService;
 
-    public ChapterController(ChapterService chapterService, CourseService courseService) {
-        this.chapterService = chapterService;
+    public ChapterController(CourseService courseService,
+                             ChapterService chapterService,
+                             CourseVersionService versionService) {
         this.courseService = courseService;
+        this.chapterService = chapterService;
+        this.versionService = versionService;
     }
 
+    // Los modulos no cambian de curso, asi que la version del curso basta para validar el listado.
     @GetMapping
-    public List<ChapterResponse> list(@PathVariable UUID courseId, @PathVariable UUID moduleId) {
-        CourseResponse course = courseService.findById(courseId);
-        ModuleResponse module = course.modules().stream()
-                .filter(m -> m.id().equals(moduleId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Modulo no pertenece al curso"));
-        return module.chapters();
+    public ResponseEntity<List<ChapterResponse>> list(@PathVariable UUID courseId,
+                                                      @PathVariable UUID moduleId,
+                                                      Authentication authentication,
+                                                      WebRequest request) {
+        if (Viewer.isLearner(authentication)) {
+            PublishedCourse published = versionService.current(courseId);
+            List<ChapterResponse> chapters = published.chapters(moduleId);
+            return ConditionalGet.respond(request, published.etag(false), published.publishedAt(), () -> chapters);
+        }
+        CourseVersion version = courseService.findVersion(courseId);
+        return ConditionalGet.respond(request, version.etag(), version.updatedAt(),
+                () -> chapterService.list(courseId, moduleId));
+    }
+
+    @GetMapping("/{chapterId}/contenido")
+    public ResponseEntity<Resource> content(@PathVariable UUID courseId,
+                                            @PathVariable UUID moduleId,
+                                            @PathVariable UUID chapterId,
+                                            Authentication authentication,
+                                            WebRequest request) {
+        if (Viewer.isLearner(authentication)) {
+            PublishedCourse published = versionService.current(courseId);
+            String content = published.chapter(moduleId, chapterId).content();
+            String etag = "\"" + chapterId + "-v-" + published.versionId() + "\"";
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return textResource(etag, content);
+        }
+        boolean gzip = ConditionalGet.acceptsGzip(request);
+        // La validacion del ETag se hace antes de leer el contenido: un 304 nunca toca la columna.
+        ChapterContent content = chapterService.loadContent(courseId, moduleId, chapterId,
+                updatedAt -> request.checkNotModified(contentEtag(chapterId, updatedAt, gzip)));
+        byte[] compressed = content.compressed();
+        if (compressed == null) {
+            return null;
+        }
+        String etag = contentEtag(chapterId, content.updatedAt(), gzip);
+        if (gzip) {
+            // Los bytes guardados ya son gzip: se envian sin descomprimir.
+            return contentResponse(etag).header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(new ByteArrayResource(compressed));
+        }
+        byte[] body = CompressedTextConverter.inflate(compressed);
+        return contentResponse(etag).body(new ByteArrayResource(body));
+    }
+
+    private static String contentEtag(UUID chapterId, Instant updatedAt, boolean gzip) {
+        return "\"" + chapterId + "-" + Long.toHexString(updatedAt.toEpochMilli()) + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    private ResponseEntity<Resource> textResource(String etag, String content) {
+        byte[] body = content != null ? content.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        return contentResponse(etag).body(new ByteArrayResource(body));
+    }
+
+    // Un Resource como cuerpo habilita las respuestas 206 a peticiones con cabecera Range.
+    private ResponseEntity.BodyBuilder contentResponse(String etag) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
     }
 
     @PostMapping
@@ -50,6 +124,14 @@ public class ChapterController {
         return chapterService.create(courseId, moduleId, request);
     }
 
+    @PutMapping("/orden")
+    @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+    public List<ChapterResponse> reorder(@PathVariable UUID courseId,
+                                         @PathVariable UUID moduleId,
+                                         @Valid @RequestBody ReorderRequest request) {
+        return chapterService.reorder(courseId, moduleId, request.moves());
+    }
+
     @PutMapping("/{chapterId}")
     @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
     public ChapterResponse update(@PathVariable UUID courseId,
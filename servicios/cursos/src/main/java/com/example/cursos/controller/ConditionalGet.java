@@ -0,0 +1,73 @@
+package com.example.cursos.controller;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+final class ConditionalGet {
+
+    // Los clientes pueden guardar la respuesta pero deben revalidarla siempre con If-None-Match.
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // Para recursos direccionados por una version inmutable.
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, Instant lastModified, Supplier<T> body) {
+        return respondWith(request, etag, lastModified, REVALIDATE, builder -> builder.body(body.get()));
+    }
+
+    static <T> ResponseEntity<T> respondWith(WebRequest request,
+                                             String etag,
+                                             Instant lastModified,
+                                             Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        return respondWith(request, etag, lastModified, REVALIDATE, body);
+    }
+
+    // checkNotModified escribe ETag y Last-Modified en la respuesta; el cuerpo solo se construye si cambio.
+    static <T> ResponseEntity<T> respondWith(WebRequest request,
+                                             String etag,
+                                             Instant lastModified,
+                                             CacheControl cacheControl,
+                                             Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+        long lastModifiedMillis = lastModified != null ? lastModified.toEpochMilli() : -1L;
+        if (request.checkNotModified(etag, lastModifiedMillis)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return body.apply(ResponseEntity.ok().cacheControl(cacheControl));
+    }
+
+    // JSON ya serializado: se envia la copia gzip si el cliente la acepta, con un ETag distinto por codificacion.
+    static ResponseEntity<byte[]> serialized(WebRequest request,
+                                             Function<Boolean, String> etag,
+                                             Instant lastModified,
+                                             CacheControl cacheControl,
+                                             byte[] json,
+                                             byte[] gzip,
+                                             Consumer<ResponseEntity.BodyBuilder> headers) {
+        boolean gzipped = acceptsGzip(request);
+        return respondWith(request, etag.apply(gzipped), lastModified, cacheControl, builder -> {
+            builder.contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzipped) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            headers.accept(builder);
+            return builder.body(gzipped ? gzip : json);
+        });
+    }
+
+    static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
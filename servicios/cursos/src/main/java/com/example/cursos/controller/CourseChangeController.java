@@ -0,0 +1,33 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.dto.CourseChangeResponse;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.service.CourseChangeFeed;
+import com.example.cursos.service.CourseChangeLog;
+import java.time.Duration;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("/cursos/cambios")
+public class CourseChangeController {
+
+    private final CourseChangeFeed changeFeed;
+
+    public CourseChangeController(CourseChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    // wait (segundos) mantiene abierta la peticion hasta que haya cambios despues del cursor.
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+    public DeferredResult<PageResponse<CourseChangeResponse>> changes(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "100") int limit,
+                                                                     @RequestParam(defaultValue = "0") int wait) {
+        return changeFeed.poll(CourseChangeLog.parseCursor(cursor), limit, Duration.ofSeconds(Math.max(wait, 0)));
+    }
+}
@@ -1,15 +1,36 @@
 package com.example.cursos.controller;
 
+import com.example.cursos.dto.CourseCloneRequest;
+import com.example.cursos.dto.CourseListQuery;
+import com.example.cursos.dto.CourseOutlineResponse;
 import com.example.cursos.dto.CourseRequest;
 import com.example.cursos.dto.CourseResponse;
+import com.example.cursos.dto.CourseSearchHit;
+import com.example.cursos.dto.CourseSort;
 import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.CourseVersionResponse;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.repository.CatalogVersion;
+import com.example.cursos.repository.CourseVersion;
+import com.example.cursos.search.CourseSearchService;
 import com.example.cursos.security.JwtUserPrincipal;
+import com.example.cursos.service.CourseBatchService;
 import com.example.cursos.service.CourseService;
+import com.example.cursos.service.CourseSnapshot;
+import com.example.cursos.service.CourseSnapshotService;
+import com.example.cursos.service.CourseVersionService;
+import com.example.cursos.service.PublishedCourse;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,26 +38,124 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/cursos")
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseSnapshotService snapshotService;
+    private final CourseSearchService searchService;
+    private final CourseVersionService versionService;
+    private final CourseBatchService batchService;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService,
+                            CourseSnapshotService snapshotService,
+                            CourseSearchService searchService,
+                            CourseVersionService versionService,
+                            CourseBatchService batchService) {
         this.courseService = courseService;
+        this.snapshotService = snapshotService;
+        this.searchService = searchService;
+        this.versionService = versionService;
+        this.batchService = batchService;
     }
 
     @GetMapping
-    public List<CourseSummaryResponse> list() {
-        return courseService.findAll();
+    public ResponseEntity<PageResponse<CourseSummaryResponse>> list(@RequestParam(required = false) CourseStatus status,
+                                                                    @RequestParam(required = false) String title,
+                                                                    @RequestParam(defaultValue = "TITLE") CourseSort sort,
+                                                                    @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int limit,
+                                                                    Authentication authentication,
+                                                                    WebRequest request) {
+        // Los alumnos solo ven cursos publicados, sin importar el filtro solicitado.
+        CourseStatus effectiveStatus = Viewer.isLearner(authentication) ? CourseStatus.PUBLISHED : status;
+        String titlePrefix = StringUtils.hasText(title) ? title.trim() : null;
+        CourseListQuery query = new CourseListQuery(effectiveStatus, titlePrefix, sort, direction, cursor, limit);
+        CatalogVersion version = courseService.catalogVersion();
+        String view = effectiveStatus != null ? effectiveStatus.name() : "TODOS";
+        return ConditionalGet.respond(request, version.etag(view), version.updatedAt(),
+                () -> courseService.findPage(query));
     }
 
-    @GetMapping("/{courseId}")
-    public CourseResponse detail(@PathVariable UUID courseId) {
-        return courseService.findById(courseId);
+    @GetMapping("/buscar")
+    public PageResponse<CourseSearchHit> search(@RequestParam("q") String query,
+                                                @RequestParam(required = false) CourseStatus status,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") int limit,
+                                                Authentication authentication) {
+        // Los alumnos buscan en la version publicada vigente, no en el arbol que se esta editando.
+        if (Viewer.isLearner(authentication)) {
+            return searchService.searchPublished(query, cursor, limit);
+        }
+        return searchService.search(query, status, cursor, limit);
+    }
+
+    // Detalle de varios cursos en una respuesta, p. ej. los cursos inscritos del tablero.
+    @GetMapping("/lote")
+    public List<CourseResponse> batch(@RequestParam List<UUID> ids, Authentication authentication) {
+        if (Viewer.isLearner(authentication)) {
+            return batchService.findPublishedDetails(ids);
+        }
+        return batchService.findDetails(ids);
+    }
+
+    @GetMapping("/lote/temario")
+    public List<CourseOutlineResponse> batchOutline(@RequestParam List<UUID> ids, Authentication authentication) {
+        if (Viewer.isLearner(authentication)) {
+            return batchService.findPublishedOutlines(ids);
+        }
+        return batchService.findOutlines(ids);
+    }
+
+    // El detalle se sirve ya serializado: a los alumnos desde la version publicada y al resto desde el snapshot.
+    @GetMapping(value = "/{courseId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> detail(@PathVariable UUID courseId,
+                                         Authentication authentication,
+                                         WebRequest request) {
+        if (Viewer.isLearner(authentication)) {
+            PublishedCourse published = versionService.current(courseId);
+            return ConditionalGet.serialized(request, published::etag, published.publishedAt(), ConditionalGet.REVALIDATE,
+                    published.json(), published.gzip(),
+                    builder -> builder.header(HttpHeaders.CONTENT_LOCATION,
+                            "/cursos/" + courseId + "/versiones/" + published.versionId()));
+        }
+        CourseSnapshot snapshot = snapshotService.get(courseId);
+        return ConditionalGet.serialized(request, snapshot::etag, snapshot.updatedAt(), ConditionalGet.REVALIDATE,
+                snapshot.json(), snapshot.gzip(), builder -> { });
+    }
+
+    @GetMapping(value = "/{courseId}/versiones/{versionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> version(@PathVariable UUID courseId,
+                                          @PathVariable UUID versionId,
+                                          WebRequest request) {
+        PublishedCourse published = versionService.find(courseId, versionId);
+        return ConditionalGet.serialized(request, published::etag, published.publishedAt(), ConditionalGet.IMMUTABLE,
+                published.json(), published.gzip(), builder -> { });
+    }
+
+    @PostMapping("/{courseId}/publicar")
+    @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+    public CourseVersionResponse publish(@PathVariable UUID courseId, Authentication authentication) {
+        return versionService.publish(courseId, extractUserId(authentication));
+    }
+
+    @GetMapping("/{courseId}/temario")
+    public ResponseEntity<CourseOutlineResponse> outline(@PathVariable UUID courseId,
+                                                         Authentication authentication,
+                                                         WebRequest request) {
+        if (Viewer.isLearner(authentication)) {
+            PublishedCourse published = versionService.current(courseId);
+            return ConditionalGet.respond(request, published.etag(false), published.publishedAt(), published::outline);
+        }
+        CourseVersion version = courseService.findVersion(courseId);
+        return ConditionalGet.respond(request, version.etag(), version.updatedAt(),
+                () -> courseService.findOutline(courseId));
     }
 
     @PostMapping
@@ -46,6 +165,14 @@ public class CourseController {
         return courseService.create(request, actorId);
     }
 
+    @PostMapping("/{courseId}/clonar")
+    @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+    public CourseSummaryResponse clone(@PathVariable UUID courseId,
+                                       @Valid @RequestBody CourseCloneRequest request,
+                                       Authentication authentication) {
+        return courseService.clone(courseId, request, extractUserId(authentication));
+    }
+
     @PutMapping("/{courseId}")
     @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
     public CourseSummaryResponse update(@PathVariable UUID courseId,
@@ -68,4 +195,5 @@ public class CourseController {
         }
         return null;
     }
+
 }
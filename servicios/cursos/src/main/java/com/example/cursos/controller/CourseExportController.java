@@ -0,0 +1,34 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.service.CourseExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/cursos/exportar")
+@PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+public class CourseExportController {
+
+    private final CourseExportService exportService;
+
+    public CourseExportController(CourseExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    // NDJSON compatible con POST /cursos/importar; se escribe mientras se lee la base de datos.
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) CourseStatus status) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cursos.ndjson\"")
+                .body(out -> exportService.export(status, out));
+    }
+}
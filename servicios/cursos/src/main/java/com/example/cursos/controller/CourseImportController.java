@@ -0,0 +1,49 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.dto.CourseImportRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.security.JwtUserPrincipal;
+import com.example.cursos.service.CourseImportService;
+import jakarta.validation.Valid;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cursos/importar")
+@PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+public class CourseImportController {
+
+    private final CourseImportService importService;
+
+    public CourseImportController(CourseImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CourseSummaryResponse importCourse(@Valid @RequestBody CourseImportRequest request,
+                                              Authentication authentication) {
+        return importService.importCourse(request, extractUserId(authentication));
+    }
+
+    // NDJSON: un curso completo por linea, leido en streaming.
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public List<CourseSummaryResponse> importCourses(InputStream body, Authentication authentication) {
+        return importService.importStream(body, extractUserId(authentication));
+    }
+
+    private UUID extractUserId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtUserPrincipal jwtPrincipal) {
+            return jwtPrincipal.getId();
+        }
+        return null;
+    }
+}
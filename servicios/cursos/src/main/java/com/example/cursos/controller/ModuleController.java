@@ -1,14 +1,20 @@
 package com.example.cursos.controller;
 
-import com.example.cursos.dto.CourseResponse;
 import com.example.cursos.dto.ModuleRequest;
 import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.dto.ModuleSummaryResponse;
+import com.example.cursos.dto.ReorderRequest;
+import com.example.cursos.repository.CourseVersion;
 import com.example.cursos.service.CourseService;
+import com.example.cursos.service.CourseVersionService;
 import com.example.cursos.service.ModuleService;
+import com.example.cursos.service.PublishedCourse;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,23 +23,35 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/cursos/{courseId}/modulos")
 public class ModuleController {
 
-    private final ModuleService moduleService;
     private final CourseService courseService;
+    private final ModuleService moduleService;
+    private final CourseVersionService versionService;
 
-    public ModuleController(ModuleService moduleService, CourseService courseService) {
-        this.moduleService = moduleService;
+    public ModuleController(CourseService courseService,
+                            ModuleService moduleService,
+                            CourseVersionService versionService) {
         this.courseService = courseService;
+        this.moduleService = moduleService;
+        this.versionService = versionService;
     }
 
     @GetMapping
-    public List<ModuleResponse> list(@PathVariable UUID courseId) {
-        CourseResponse course = courseService.findById(courseId);
-        return course.modules();
+    public ResponseEntity<List<ModuleSummaryResponse>> list(@PathVariable UUID courseId,
+                                                            Authentication authentication,
+                                                            WebRequest request) {
+        if (Viewer.isLearner(authentication)) {
+            PublishedCourse published = versionService.current(courseId);
+            return ConditionalGet.respond(request, published.etag(false), published.publishedAt(), published::modules);
+        }
+        CourseVersion version = courseService.findVersion(courseId);
+        return ConditionalGet.respond(request, version.etag(), version.updatedAt(),
+                () -> moduleService.list(courseId));
     }
 
     @PostMapping
@@ -42,6 +60,12 @@ public class ModuleController {
         return moduleService.create(courseId, request);
     }
 
+    @PutMapping("/orden")
+    @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+    public List<ModuleSummaryResponse> reorder(@PathVariable UUID courseId, @Valid @RequestBody ReorderRequest request) {
+        return moduleService.reorder(courseId, request.moves());
+    }
+
     @PutMapping("/{moduleId}")
     @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
     public ModuleResponse update(@PathVariable UUID courseId,
@@ -0,0 +1,17 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.security.JwtUserPrincipal;
+import org.springframework.security.core.Authentication;
+
+final class Viewer {
+
+    private Viewer() {
+    }
+
+    // Los alumnos (rol USER) solo leen versiones publicadas.
+    static boolean isLearner(Authentication authentication) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof JwtUserPrincipal jwtPrincipal
+                && "USER".equals(jwtPrincipal.getRole());
+    }
+}
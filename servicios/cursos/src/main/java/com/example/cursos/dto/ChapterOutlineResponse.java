@@ -0,0 +1,11 @@
+package com.example.cursos.dto;
+
+import java.util.UUID;
+
+public record ChapterOutlineResponse(
+        UUID id,
+        String title,
+        int orderIndex,
+        Integer durationMinutes
+) {
+}
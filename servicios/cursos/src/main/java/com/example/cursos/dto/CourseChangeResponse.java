@@ -0,0 +1,17 @@
+package com.example.cursos.dto;
+
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
+import java.time.Instant;
+import java.util.UUID;
+
+public record CourseChangeResponse(
+        long sequence,
+        UUID courseId,
+        ChangeTarget target,
+        UUID entityId,
+        ChangeAction action,
+        long revision,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.cursos.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CourseCloneRequest(
+        @NotBlank @Size(max = 60) String code,
+        @Size(max = 255) String title
+) {
+}
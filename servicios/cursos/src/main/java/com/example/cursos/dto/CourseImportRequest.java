@@ -0,0 +1,17 @@
+package com.example.cursos.dto;
+
+import com.example.cursos.entity.CourseStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record CourseImportRequest(
+        @NotBlank @Size(max = 60) String code,
+        @NotBlank @Size(max = 255) String title,
+        String description,
+        @NotNull CourseStatus status,
+        List<@Valid ModuleImportRequest> modules
+) {
+}
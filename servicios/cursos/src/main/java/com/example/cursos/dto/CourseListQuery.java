@@ -0,0 +1,14 @@
+package com.example.cursos.dto;
+
+import com.example.cursos.entity.CourseStatus;
+import org.springframework.data.domain.Sort;
+
+public record CourseListQuery(
+        CourseStatus status,
+        String titlePrefix,
+        CourseSort sort,
+        Sort.Direction direction,
+        String cursor,
+        int limit
+) {
+}
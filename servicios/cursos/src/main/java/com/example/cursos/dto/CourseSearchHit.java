@@ -0,0 +1,15 @@
+package com.example.cursos.dto;
+
+import com.example.cursos.entity.CourseStatus;
+import java.util.List;
+import java.util.UUID;
+
+public record CourseSearchHit(
+        UUID id,
+        String code,
+        String title,
+        CourseStatus status,
+        double score,
+        List<SearchHighlight> highlights
+) {
+}
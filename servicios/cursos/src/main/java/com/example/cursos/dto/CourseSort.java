@@ -0,0 +1,6 @@
+package com.example.cursos.dto;
+
+public enum CourseSort {
+    TITLE,
+    CREATED_AT
+}
@@ -9,6 +9,9 @@ public record CourseSummaryResponse(
         String code,
         String title,
         CourseStatus status,
+        int moduleCount,
+        int chapterCount,
+        int totalMinutes,
         Instant createdAt,
         Instant updatedAt
 ) {
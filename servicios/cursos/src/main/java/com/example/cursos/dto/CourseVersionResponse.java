@@ -0,0 +1,12 @@
+package com.example.cursos.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CourseVersionResponse(
+        UUID id,
+        UUID courseId,
+        int version,
+        Instant publishedAt
+) {
+}
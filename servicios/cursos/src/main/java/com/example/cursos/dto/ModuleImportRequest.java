@@ -0,0 +1,15 @@
+package com.example.cursos.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ModuleImportRequest(
+        @NotBlank @Size(max = 255) String title,
+        String summary,
+        @Min(0) Integer orderIndex,
+        List<@Valid ChapterRequest> chapters
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.cursos.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ModuleOutlineResponse(
+        UUID id,
+        String title,
+        String summary,
+        int orderIndex,
+        List<ChapterOutlineResponse> chapters
+) {
+}
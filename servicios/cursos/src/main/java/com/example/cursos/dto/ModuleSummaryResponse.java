@@ -0,0 +1,16 @@
+package com.example.cursos.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ModuleSummaryResponse(
+        UUID id,
+        String title,
+        String summary,
+        int orderIndex,
+        int chapterCount,
+        int totalMinutes,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
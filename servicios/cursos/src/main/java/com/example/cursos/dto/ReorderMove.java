@@ -0,0 +1,10 @@
+package com.example.cursos.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record ReorderMove(
+        @NotNull UUID id,
+        UUID afterId
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.cursos.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ReorderRequest(
+        @NotEmpty @Size(max = 500) List<@Valid ReorderMove> moves
+) {
+}
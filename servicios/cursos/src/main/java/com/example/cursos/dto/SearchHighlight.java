@@ -0,0 +1,7 @@
+package com.example.cursos.dto;
+
+public record SearchHighlight(
+        String field,
+        String fragment
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.cursos.entity;
+
+public enum ChangeAction {
+    CREATED,
+    UPDATED,
+    DELETED,
+    PUBLISHED
+}
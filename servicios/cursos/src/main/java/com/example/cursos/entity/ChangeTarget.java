@@ -0,0 +1,7 @@
+package com.example.cursos.entity;
+
+public enum ChangeTarget {
+    COURSE,
+    MODULE,
+    CHAPTER
+}
@@ -1,6 +1,8 @@
 package com.example.cursos.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -11,6 +13,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -18,6 +21,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Getter
 @Setter
@@ -25,7 +32,9 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "chapters")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entidad-capitulo")
+@Table(name = "chapters", uniqueConstraints = @UniqueConstraint(columnNames = {"module_id", "order_index"}))
 public class ChapterEntity {
 
     @Id
@@ -33,13 +42,16 @@ public class ChapterEntity {
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "module_id")
     private ModuleEntity module;
 
     @Column(nullable = false, length = 255)
     private String title;
 
-    @Column(columnDefinition = "text")
+    // Se guarda comprimido con gzip; el controlador de contenido puede enviar los bytes sin descomprimir.
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content_gz", columnDefinition = "bytea")
     private String content;
 
     @Column(name = "order_index", nullable = false)
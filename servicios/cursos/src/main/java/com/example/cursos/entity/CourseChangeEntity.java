@@ -0,0 +1,65 @@
+package com.example.cursos.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "course_changes")
+public class CourseChangeEntity implements Persistable<Long> {
+
+    @Id
+    private long sequence;
+
+    @Column(name = "course_id", nullable = false, updatable = false)
+    private UUID courseId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private ChangeTarget target;
+
+    @Column(name = "entity_id", nullable = false, updatable = false)
+    private UUID entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private ChangeAction action;
+
+    // Revision del curso despues del cambio.
+    @Column(nullable = false, updatable = false)
+    private long revision;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    @PrePersist
+    void onCreate() {
+        occurredAt = Instant.now();
+    }
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    // La secuencia se asigna a mano; sin esto save() haria un SELECT previo para decidir entre persist y merge.
+    @Override
+    public boolean isNew() {
+        return occurredAt == null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cursos.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Fila unica que reparte las secuencias del outbox.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "course_change_head")
+public class CourseChangeHead {
+
+    public static final short ID = 1;
+
+    @Id
+    private short id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+}
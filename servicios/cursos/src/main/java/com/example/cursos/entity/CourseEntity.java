@@ -1,6 +1,7 @@
 package com.example.cursos.entity;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -22,6 +23,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -29,6 +32,8 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entidad-curso")
 @Table(name = "courses")
 public class CourseEntity {
 
@@ -61,6 +66,21 @@ public class CourseEntity {
     @Column(name = "updated_by")
     private UUID updatedBy;
 
+    // Solo se modifica con CourseRepository.touch para que el incremento sea atomico.
+    @Column(nullable = false, updatable = false)
+    private long revision;
+
+    // Totales agregados: se insertan con la entidad y luego solo cambian con CourseRepository.adjustTotals.
+    @Column(name = "module_count", nullable = false, updatable = false)
+    private int moduleCount;
+
+    @Column(name = "chapter_count", nullable = false, updatable = false)
+    private int chapterCount;
+
+    @Column(name = "total_minutes", nullable = false, updatable = false)
+    private int totalMinutes;
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entidad-curso-modulos")
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private Set<ModuleEntity> modules = new LinkedHashSet<>();
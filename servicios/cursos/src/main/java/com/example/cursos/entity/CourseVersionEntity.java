@@ -0,0 +1,50 @@
+package com.example.cursos.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "course_versions", uniqueConstraints = @UniqueConstraint(columnNames = {"course_id", "version"}))
+public class CourseVersionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "course_id", nullable = false, updatable = false)
+    private UUID courseId;
+
+    @Column(nullable = false, updatable = false)
+    private int version;
+
+    // JSON del CourseResponse congelado al publicar; la fila no se modifica nunca.
+    @Column(nullable = false, updatable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "published_at", nullable = false, updatable = false)
+    private Instant publishedAt;
+
+    @Column(name = "published_by", updatable = false)
+    private UUID publishedBy;
+
+    @PrePersist
+    void onCreate() {
+        publishedAt = Instant.now();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.cursos.entity;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,6 +14,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -22,6 +24,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Getter
 @Setter
@@ -29,14 +35,18 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "modules")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entidad-modulo")
+@Table(name = "modules", uniqueConstraints = @UniqueConstraint(columnNames = {"course_id", "order_index"}))
 public class ModuleEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // La base de datos borra los modulos con el curso (ON DELETE CASCADE); JPA no los recorre.
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "course_id")
     private CourseEntity course;
 
@@ -49,12 +59,20 @@ public class ModuleEntity {
     @Column(name = "order_index", nullable = false)
     private int orderIndex;
 
+    // Solo cambian con ModuleRepository.adjustTotals para que los incrementos concurrentes no se pisen.
+    @Column(name = "chapter_count", nullable = false, updatable = false)
+    private int chapterCount;
+
+    @Column(name = "total_minutes", nullable = false, updatable = false)
+    private int totalMinutes;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entidad-modulo-capitulos")
     @OneToMany(mappedBy = "module", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private Set<ChapterEntity> chapters = new LinkedHashSet<>();
@@ -0,0 +1,6 @@
+package com.example.cursos.event;
+
+import java.util.UUID;
+
+public record CourseCatalogChangedEvent(UUID courseId) {
+}
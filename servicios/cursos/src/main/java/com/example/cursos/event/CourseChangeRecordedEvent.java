@@ -0,0 +1,4 @@
+package com.example.cursos.event;
+
+public record CourseChangeRecordedEvent(long sequence) {
+}
@@ -1,14 +1,24 @@
 package com.example.cursos.mapper;
 
+import com.example.cursos.dto.ChapterOutlineResponse;
 import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseChangeResponse;
+import com.example.cursos.dto.CourseOutlineResponse;
 import com.example.cursos.dto.CourseResponse;
 import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleOutlineResponse;
 import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.dto.ModuleSummaryResponse;
 import com.example.cursos.entity.ChapterEntity;
+import com.example.cursos.entity.CourseChangeEntity;
 import com.example.cursos.entity.CourseEntity;
 import com.example.cursos.entity.ModuleEntity;
+import com.example.cursos.repository.ChapterOutlineRow;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public final class CourseMapper {
@@ -22,6 +32,9 @@ public final class CourseMapper {
                 entity.getCode(),
                 entity.getTitle(),
                 entity.getStatus(),
+                entity.getModuleCount(),
+                entity.getChapterCount(),
+                entity.getTotalMinutes(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
@@ -44,6 +57,34 @@ public final class CourseMapper {
         );
     }
 
+    // Variante para arboles cargados por nivel: no recorre las colecciones perezosas de las entidades.
+    public static CourseResponse toResponse(CourseEntity course,
+                                            List<ModuleEntity> modules,
+                                            Map<UUID, List<ChapterEntity>> chaptersByModule) {
+        List<ModuleResponse> moduleResponses = modules.stream()
+                .map(module -> new ModuleResponse(
+                        module.getId(),
+                        module.getTitle(),
+                        module.getSummary(),
+                        module.getOrderIndex(),
+                        module.getCreatedAt(),
+                        module.getUpdatedAt(),
+                        chaptersByModule.getOrDefault(module.getId(), List.of()).stream()
+                                .map(CourseMapper::toChapterResponse)
+                                .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+        return new CourseResponse(
+                course.getId(),
+                course.getCode(),
+                course.getTitle(),
+                course.getDescription(),
+                course.getStatus(),
+                course.getCreatedAt(),
+                course.getUpdatedAt(),
+                moduleResponses
+        );
+    }
+
     public static ModuleResponse toModuleResponse(ModuleEntity entity) {
         List<ChapterResponse> chapters = entity.getChapters().stream()
                 .sorted(Comparator.comparingInt(ChapterEntity::getOrderIndex))
@@ -71,4 +112,100 @@ public final class CourseMapper {
                 entity.getUpdatedAt()
         );
     }
+
+    public static CourseOutlineResponse toOutline(CourseEntity course,
+                                                  List<ModuleSummaryResponse> modules,
+                                                  List<ChapterOutlineRow> chapters) {
+        Map<UUID, List<ChapterOutlineResponse>> chaptersByModule = chapters.stream()
+                .collect(Collectors.groupingBy(
+                        ChapterOutlineRow::moduleId,
+                        Collectors.mapping(
+                                row -> new ChapterOutlineResponse(row.id(), row.title(), row.orderIndex(), row.durationMinutes()),
+                                Collectors.toList())));
+        List<ModuleOutlineResponse> moduleOutlines = modules.stream()
+                .map(module -> new ModuleOutlineResponse(
+                        module.id(),
+                        module.title(),
+                        module.summary(),
+                        module.orderIndex(),
+                        chaptersByModule.getOrDefault(module.id(), List.of())))
+                .collect(Collectors.toList());
+        return new CourseOutlineResponse(
+                course.getId(),
+                course.getCode(),
+                course.getTitle(),
+                course.getDescription(),
+                course.getStatus(),
+                course.getCreatedAt(),
+                course.getUpdatedAt(),
+                moduleOutlines
+        );
+    }
+
+    public static CourseOutlineResponse toOutline(CourseResponse course) {
+        List<ModuleOutlineResponse> modules = course.modules().stream()
+                .map(module -> new ModuleOutlineResponse(
+                        module.id(),
+                        module.title(),
+                        module.summary(),
+                        module.orderIndex(),
+                        module.chapters().stream()
+                                .map(chapter -> new ChapterOutlineResponse(
+                                        chapter.id(), chapter.title(), chapter.orderIndex(), chapter.durationMinutes()))
+                                .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+        return new CourseOutlineResponse(
+                course.id(),
+                course.code(),
+                course.title(),
+                course.description(),
+                course.status(),
+                course.createdAt(),
+                course.updatedAt(),
+                modules
+        );
+    }
+
+    public static ModuleSummaryResponse toModuleSummary(ModuleEntity module) {
+        return new ModuleSummaryResponse(
+                module.getId(),
+                module.getTitle(),
+                module.getSummary(),
+                module.getOrderIndex(),
+                module.getChapterCount(),
+                module.getTotalMinutes(),
+                module.getCreatedAt(),
+                module.getUpdatedAt()
+        );
+    }
+
+    public static ModuleSummaryResponse toModuleSummary(ModuleResponse module) {
+        int totalMinutes = module.chapters().stream()
+                .map(ChapterResponse::durationMinutes)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sum();
+        return new ModuleSummaryResponse(
+                module.id(),
+                module.title(),
+                module.summary(),
+                module.orderIndex(),
+                module.chapters().size(),
+                totalMinutes,
+                module.createdAt(),
+                module.updatedAt()
+        );
+    }
+
+    public static CourseChangeResponse toChangeResponse(CourseChangeEntity entity) {
+        return new CourseChangeResponse(
+                entity.getSequence(),
+                entity.getCourseId(),
+                entity.getTarget(),
+                entity.getEntityId(),
+                entity.getAction(),
+                entity.getRevision(),
+                entity.getOccurredAt()
+        );
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.cursos.repository;
+
+import java.time.Instant;
+
+public record CatalogVersion(
+        long courses,
+        long revisions,
+        Instant updatedAt
+) {
+
+    // Las altas y cambios mueven max(updated_at) y la suma de revisiones; las bajas cambian el conteo.
+    // La vista (el estado que filtra de verdad la respuesta) separa el listado de alumnos del de staff,
+    // que comparten URL: sin ella un If-None-Match de una cuenta revalidaria el cuerpo de la otra.
+    public String etag(String view) {
+        long lastModified = updatedAt != null ? updatedAt.toEpochMilli() : 0L;
+        return "\"catalogo-" + view + "-" + courses + "-" + revisions + "-" + Long.toHexString(lastModified) + "\"";
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.cursos.repository;
+
+import java.util.UUID;
+
+public record ChapterOutlineRow(
+        UUID moduleId,
+        UUID id,
+        String title,
+        int orderIndex,
+        Integer durationMinutes
+) {
+}
@@ -1,14 +1,90 @@
 package com.example.cursos.repository;
 
+import com.example.cursos.dto.ChapterResponse;
 import com.example.cursos.entity.ChapterEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ChapterRepository extends JpaRepository<ChapterEntity, UUID> {
 
-    List<ChapterEntity> findByModule_IdOrderByOrderIndex(UUID moduleId);
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "consulta-capitulos")
+    })
+    List<ChapterResponse> findByModule_IdOrderByOrderIndex(UUID moduleId);
 
-    Optional<ChapterEntity> findByModule_IdAndId(UUID moduleId, UUID chapterId);
+    // Sin cache: los totales se ajustan con la duracion que queda bloqueada hasta el commit.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select ch from ChapterEntity ch where ch.id = :id and ch.module.id = :moduleId")
+    Optional<ChapterEntity> findForUpdate(@Param("moduleId") UUID moduleId, @Param("id") UUID id);
+
+    boolean existsByModule_IdAndOrderIndex(UUID moduleId, int orderIndex);
+
+    boolean existsByModule_IdAndOrderIndexAndIdNot(UUID moduleId, int orderIndex, UUID chapterId);
+
+    @Query("""
+            select min(ch.orderIndex) from ChapterEntity ch
+            where ch.module.id = :moduleId and ch.orderIndex > :after and ch.id <> :excludedId
+            """)
+    Integer findNextOrderIndex(@Param("moduleId") UUID moduleId,
+                               @Param("after") int after,
+                               @Param("excludedId") UUID excludedId);
+
+    @Query("select ch from ChapterEntity ch where ch.module.id = :moduleId order by ch.orderIndex")
+    List<ChapterEntity> findSiblings(@Param("moduleId") UUID moduleId);
+
+    @Query("""
+            select new com.example.cursos.repository.ChapterOutlineRow(ch.module.id, ch.id, ch.title, ch.orderIndex, ch.durationMinutes)
+            from ChapterEntity ch
+            where ch.module.course.id = :courseId
+            order by ch.orderIndex
+            """)
+    List<ChapterOutlineRow> findOutlineByCourseId(@Param("courseId") UUID courseId);
+
+    @Query("select ch from ChapterEntity ch where ch.module.id in :moduleIds order by ch.orderIndex")
+    List<ChapterEntity> findByModuleIds(@Param("moduleIds") Collection<UUID> moduleIds);
+
+    @Query("""
+            select new com.example.cursos.repository.ChapterOutlineRow(ch.module.id, ch.id, ch.title, ch.orderIndex, ch.durationMinutes)
+            from ChapterEntity ch
+            where ch.module.id in :moduleIds
+            order by ch.orderIndex
+            """)
+    List<ChapterOutlineRow> findOutlineByModuleIds(@Param("moduleIds") Collection<UUID> moduleIds);
+
+    @Query("""
+            select ch.updatedAt from ChapterEntity ch
+            where ch.id = :chapterId and ch.module.id = :moduleId and ch.module.course.id = :courseId
+            """)
+    Optional<Instant> findUpdatedAt(@Param("courseId") UUID courseId,
+                                    @Param("moduleId") UUID moduleId,
+                                    @Param("chapterId") UUID chapterId);
+
+    // Los modulos copiados conservan su order_index, que es unico por curso y sirve para emparejarlos.
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into chapters (id, module_id, title, content_gz, order_index, duration_minutes, created_at, updated_at)
+            select gen_random_uuid(), target.id, ch.title, ch.content_gz, ch.order_index, ch.duration_minutes, :now, :now
+            from chapters ch
+            join modules source on source.id = ch.module_id
+            join modules target on target.course_id = :targetId and target.order_index = source.order_index
+            where source.course_id = :sourceId
+            """, nativeQuery = true)
+    int copyChapters(@Param("sourceId") UUID sourceId, @Param("targetId") UUID targetId, @Param("now") Instant now);
+
+    // Consulta nativa para leer los bytes gzip sin pasar por el conversor.
+    @Query(value = "select content_gz from chapters where id = :chapterId", nativeQuery = true)
+    byte[] findCompressedContent(@Param("chapterId") UUID chapterId);
 }
@@ -0,0 +1,17 @@
+package com.example.cursos.repository;
+
+import com.example.cursos.entity.CourseChangeHead;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CourseChangeHeadRepository extends JpaRepository<CourseChangeHead, Short> {
+
+    // El bloqueo se mantiene hasta el commit: las secuencias se hacen visibles en orden.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from CourseChangeHead h where h.id = :id")
+    Optional<CourseChangeHead> findForUpdate(@Param("id") short id);
+}
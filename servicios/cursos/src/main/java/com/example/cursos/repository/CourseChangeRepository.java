@@ -0,0 +1,17 @@
+package com.example.cursos.repository;
+
+import com.example.cursos.entity.CourseChangeEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CourseChangeRepository extends JpaRepository<CourseChangeEntity, Long> {
+
+    @Query("select c from CourseChangeEntity c where c.sequence > :after order by c.sequence")
+    List<CourseChangeEntity> findAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("select coalesce(max(c.sequence), 0) from CourseChangeEntity c")
+    long findLatestSequence();
+}
@@ -0,0 +1,19 @@
+package com.example.cursos.repository;
+
+import com.example.cursos.dto.CourseSort;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+
+public interface CourseQueryRepository {
+
+    List<CourseEntity> findPage(CourseStatus status,
+                                String titlePrefix,
+                                CourseSort sort,
+                                Sort.Direction direction,
+                                Object afterKey,
+                                UUID afterId,
+                                int limit);
+}
@@ -0,0 +1,67 @@
+package com.example.cursos.repository;
+
+import com.example.cursos.dto.CourseSort;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+class CourseQueryRepositoryImpl implements CourseQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CourseEntity> findPage(CourseStatus status,
+                                       String titlePrefix,
+                                       CourseSort sort,
+                                       Sort.Direction direction,
+                                       Object afterKey,
+                                       UUID afterId,
+                                       int limit) {
+        String key = sort == CourseSort.CREATED_AT ? "c.createdAt" : "c.title";
+        String order = direction.isDescending() ? "desc" : "asc";
+
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("c.status = :status");
+        }
+        if (StringUtils.hasText(titlePrefix)) {
+            conditions.add("lower(c.title) like :titlePrefix escape '\\'");
+        }
+        if (afterId != null) {
+            // Comparacion de tuplas: Postgres la resuelve como un rango sobre el indice (clave, id).
+            conditions.add("(" + key + ", c.id) " + (direction.isDescending() ? "<" : ">") + " (:afterKey, :afterId)");
+        }
+
+        StringBuilder jpql = new StringBuilder("select c from CourseEntity c");
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(" order by ").append(key).append(' ').append(order).append(", c.id ").append(order);
+
+        TypedQuery<CourseEntity> query = entityManager.createQuery(jpql.toString(), CourseEntity.class);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (StringUtils.hasText(titlePrefix)) {
+            query.setParameter("titlePrefix", escapeLike(titlePrefix.toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (afterId != null) {
+            query.setParameter("afterKey", afterKey);
+            query.setParameter("afterId", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
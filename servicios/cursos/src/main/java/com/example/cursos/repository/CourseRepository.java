@@ -1,15 +1,65 @@
 package com.example.cursos.repository;
 
 import com.example.cursos.entity.CourseEntity;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CourseRepository extends JpaRepository<CourseEntity, UUID> {
+public interface CourseRepository extends JpaRepository<CourseEntity, UUID>, CourseQueryRepository {
 
     Optional<CourseEntity> findByCode(String code);
 
     @EntityGraph(attributePaths = {"modules", "modules.chapters"})
     Optional<CourseEntity> findWithDetailsById(UUID id);
+
+    @EntityGraph(attributePaths = {"modules", "modules.chapters"})
+    List<CourseEntity> findWithDetailsByIdIn(Collection<UUID> ids);
+
+    // Serializa las escrituras que derivan datos del estado actual del curso (versiones, totales, copias).
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CourseEntity c where c.id = :id")
+    Optional<CourseEntity> findForUpdate(@Param("id") UUID id);
+
+    @Query("select c.id from CourseEntity c")
+    List<UUID> findAllIds();
+
+    @Query("select new com.example.cursos.repository.CourseVersion(c.id, c.revision, c.updatedAt) from CourseEntity c where c.id = :id")
+    Optional<CourseVersion> findVersion(@Param("id") UUID id);
+
+    @Query("select new com.example.cursos.repository.CatalogVersion(count(c), coalesce(sum(c.revision), 0), max(c.updatedAt)) from CourseEntity c")
+    CatalogVersion findCatalogVersion();
+
+    @Query("select c.revision from CourseEntity c where c.id = :id")
+    long findRevision(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update CourseEntity c set c.revision = c.revision + 1, c.updatedAt = :now where c.id = :id")
+    int touch(@Param("id") UUID id, @Param("now") Instant now);
+
+    // Borrado en bloque: modulos, capitulos y versiones los elimina la base de datos en cascada.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CourseEntity c where c.id = :id")
+    int deleteInBulk(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update CourseEntity c
+            set c.moduleCount = c.moduleCount + :modules,
+                c.chapterCount = c.chapterCount + :chapters,
+                c.totalMinutes = c.totalMinutes + :minutes
+            where c.id = :id
+            """)
+    int adjustTotals(@Param("id") UUID id,
+                     @Param("modules") int modules,
+                     @Param("chapters") int chapters,
+                     @Param("minutes") int minutes);
 }
@@ -0,0 +1,15 @@
+package com.example.cursos.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CourseVersion(
+        UUID id,
+        long revision,
+        Instant updatedAt
+) {
+
+    public String etag() {
+        return "\"" + id + "-" + revision + "\"";
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.cursos.repository;
+
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.entity.CourseVersionEntity;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CourseVersionRepository extends JpaRepository<CourseVersionEntity, UUID> {
+
+    Optional<CourseVersionEntity> findByCourseIdAndId(UUID courseId, UUID id);
+
+    @Query("select max(v.version) from CourseVersionEntity v where v.courseId = :courseId")
+    Integer findMaxVersion(@Param("courseId") UUID courseId);
+
+    boolean existsByCourseId(UUID courseId);
+
+    // Ultima version, solo si el curso sigue publicado.
+    @Query("""
+            select v.id from CourseVersionEntity v, CourseEntity c
+            where c.id = v.courseId and c.id = :courseId and c.status = :status
+              and v.version = (select max(x.version) from CourseVersionEntity x where x.courseId = :courseId)
+            """)
+    Optional<UUID> findCurrentId(@Param("courseId") UUID courseId, @Param("status") CourseStatus status);
+
+    @Query("""
+            select new com.example.cursos.repository.PublishedVersionRef(c.id, v.id)
+            from CourseVersionEntity v, CourseEntity c
+            where c.id = v.courseId and c.id in :courseIds and c.status = :status
+              and v.version = (select max(x.version) from CourseVersionEntity x where x.courseId = c.id)
+            """)
+    List<PublishedVersionRef> findCurrentIds(@Param("courseIds") Collection<UUID> courseIds,
+                                             @Param("status") CourseStatus status);
+
+    @Query("""
+            select c.id from CourseEntity c
+            where c.status = :status
+              and not exists (select 1 from CourseVersionEntity v where v.courseId = c.id)
+            """)
+    List<UUID> findCoursesWithoutVersion(@Param("status") CourseStatus status);
+}
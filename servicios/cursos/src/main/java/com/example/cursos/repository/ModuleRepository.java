@@ -1,14 +1,72 @@
 package com.example.cursos.repository;
 
+import com.example.cursos.dto.ModuleSummaryResponse;
 import com.example.cursos.entity.ModuleEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ModuleRepository extends JpaRepository<ModuleEntity, UUID> {
 
-    List<ModuleEntity> findByCourse_IdOrderByOrderIndex(UUID courseId);
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "consulta-modulos")
+    })
+    List<ModuleSummaryResponse> findByCourse_IdOrderByOrderIndex(UUID courseId);
 
-    Optional<ModuleEntity> findByCourse_IdAndId(UUID courseId, UUID moduleId);
+    boolean existsByCourse_IdAndId(UUID courseId, UUID moduleId);
+
+    // Espera a las altas de capitulos en curso: sus totales ya estan aplicados al leerlos.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from ModuleEntity m where m.id = :id and m.course.id = :courseId")
+    Optional<ModuleEntity> findForUpdate(@Param("courseId") UUID courseId, @Param("id") UUID id);
+
+    @Query("select m from ModuleEntity m where m.course.id in :courseIds order by m.orderIndex")
+    List<ModuleEntity> findByCourseIds(@Param("courseIds") Collection<UUID> courseIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into modules (id, course_id, title, summary, order_index, chapter_count, total_minutes, created_at, updated_at)
+            select gen_random_uuid(), :targetId, m.title, m.summary, m.order_index, m.chapter_count, m.total_minutes, :now, :now
+            from modules m
+            where m.course_id = :sourceId
+            """, nativeQuery = true)
+    int copyModules(@Param("sourceId") UUID sourceId, @Param("targetId") UUID targetId, @Param("now") Instant now);
+
+    boolean existsByCourse_IdAndOrderIndex(UUID courseId, int orderIndex);
+
+    boolean existsByCourse_IdAndOrderIndexAndIdNot(UUID courseId, int orderIndex, UUID moduleId);
+
+    @Query("select max(m.orderIndex) from ModuleEntity m where m.course.id = :courseId")
+    Integer findMaxOrderIndex(@Param("courseId") UUID courseId);
+
+    @Query("""
+            select min(m.orderIndex) from ModuleEntity m
+            where m.course.id = :courseId and m.orderIndex > :after and m.id <> :excludedId
+            """)
+    Integer findNextOrderIndex(@Param("courseId") UUID courseId,
+                               @Param("after") int after,
+                               @Param("excludedId") UUID excludedId);
+
+    @Query("select m from ModuleEntity m where m.course.id = :courseId order by m.orderIndex")
+    List<ModuleEntity> findSiblings(@Param("courseId") UUID courseId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update ModuleEntity m
+            set m.chapterCount = m.chapterCount + :chapters, m.totalMinutes = m.totalMinutes + :minutes
+            where m.id = :id
+            """)
+    int adjustTotals(@Param("id") UUID id, @Param("chapters") int chapters, @Param("minutes") int minutes);
 }
@@ -0,0 +1,9 @@
+package com.example.cursos.repository;
+
+import java.util.UUID;
+
+public record PublishedVersionRef(
+        UUID courseId,
+        UUID versionId
+) {
+}
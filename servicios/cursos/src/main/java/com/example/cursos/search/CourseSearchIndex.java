@@ -0,0 +1,120 @@
+package com.example.cursos.search;
+
+import com.example.cursos.entity.CourseStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Indice invertido en memoria; el servicio mantiene uno por vista (arbol vivo y versiones publicadas).
+class CourseSearchIndex {
+
+    private final Map<UUID, SearchDocument> documents = new HashMap<>();
+    private final Map<String, Map<UUID, Float>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(match -> match.document().id());
+
+    record Match(SearchDocument document, double score) {
+    }
+
+    void put(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            documents.put(document.id(), document);
+            document.weights().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID courseId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Devuelve solo los limit mejores posteriores al cursor; un monticulo acotado evita ordenar todas las coincidencias.
+    List<Match> search(Set<String> terms, CourseStatus status, SearchCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = new HashMap<>();
+            Map<UUID, Integer> matchedTerms = new HashMap<>();
+            int total = documents.size();
+            for (String term : terms) {
+                Map<UUID, Float> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1d + (double) total / posting.size());
+                posting.forEach((courseId, weight) -> {
+                    scores.merge(courseId, weight * idf, Double::sum);
+                    matchedTerms.merge(courseId, 1, Integer::sum);
+                });
+            }
+            // Se premia a los cursos que contienen todos los terminos buscados.
+            scores.replaceAll((courseId, score) -> score * ((double) matchedTerms.get(courseId) / terms.size()));
+            // Agregar o quitar cursos cambia el idf y corre todas las puntuaciones; si el ultimo entregado sigue
+            // en el indice, se continua desde su puntuacion actual y no desde la guardada en el cursor.
+            SearchCursor boundary = after != null && scores.containsKey(after.id())
+                    ? new SearchCursor(scores.get(after.id()), after.id())
+                    : after;
+            PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            scores.forEach((courseId, score) -> {
+                SearchDocument document = documents.get(courseId);
+                if (status != null && document.status() != status) {
+                    return;
+                }
+                if (boundary != null && !boundary.precedes(score, courseId)) {
+                    return;
+                }
+                best.add(new Match(document, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            });
+            List<Match> matches = new ArrayList<>(best);
+            matches.sort(RANKING);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(UUID courseId) {
+        SearchDocument previous = documents.remove(courseId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.weights().keySet()) {
+            Map<UUID, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(courseId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
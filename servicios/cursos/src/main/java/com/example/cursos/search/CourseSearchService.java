@@ -0,0 +1,162 @@
+package com.example.cursos.search;
+
+import com.example.cursos.dto.CourseChangeResponse;
+import com.example.cursos.dto.CourseSearchHit;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.dto.SearchHighlight;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.exception.BusinessRuleException;
+import com.example.cursos.mapper.CourseMapper;
+import com.example.cursos.repository.CourseRepository;
+import com.example.cursos.service.CourseChangeLog;
+import com.example.cursos.service.CourseService;
+import com.example.cursos.service.CourseVersionService;
+import com.example.cursos.service.PublishedCourse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CourseSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_HIGHLIGHTS = 3;
+    private static final int REBUILD_BATCH_SIZE = 100;
+
+    private final CourseRepository courseRepository;
+    private final CourseVersionService versionService;
+    private final CourseChangeLog changeLog;
+    // Arbol vivo, para quienes editan; los alumnos buscan solo en la version publicada vigente, asi no ven
+    // titulos ni textos de ediciones sin publicar.
+    private final CourseSearchIndex liveIndex = new CourseSearchIndex();
+    private final CourseSearchIndex publishedIndex = new CourseSearchIndex();
+    // Ultima secuencia del outbox aplicada a los indices; negativa hasta la carga inicial.
+    private long appliedSequence = -1;
+
+    public CourseSearchService(CourseRepository courseRepository,
+                               CourseVersionService versionService,
+                               CourseChangeLog changeLog) {
+        this.courseRepository = courseRepository;
+        this.versionService = versionService;
+        this.changeLog = changeLog;
+    }
+
+    public PageResponse<CourseSearchHit> search(String query, CourseStatus status, String cursor, int limit) {
+        return search(liveIndex, query, status, cursor, limit);
+    }
+
+    public PageResponse<CourseSearchHit> searchPublished(String query, String cursor, int limit) {
+        return search(publishedIndex, query, null, cursor, limit);
+    }
+
+    // La secuencia se toma antes de cargar: lo que se confirme durante la carga lo aplica la siguiente ronda.
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long sequence = changeLog.latestSequence();
+        reindex(courseRepository.findAllIds());
+        appliedSequence = sequence;
+    }
+
+    // Los indices siguen al outbox y no a los eventos locales: asi tambien ven las escrituras de las demas
+    // instancias. Corre en el hilo del planificador; las busquedas no esperan a la recarga.
+    @Scheduled(fixedDelayString = "${cursos.search.refresh-interval-ms:1000}")
+    public synchronized void catchUp() {
+        if (appliedSequence < 0) {
+            return;
+        }
+        long sequence = appliedSequence;
+        Set<UUID> changed = new LinkedHashSet<>();
+        PageResponse<CourseChangeResponse> page;
+        do {
+            page = changeLog.findAfter(sequence, CourseChangeLog.MAX_PAGE_SIZE);
+            page.items().forEach(change -> changed.add(change.courseId()));
+            sequence = CourseChangeLog.parseCursor(page.nextCursor());
+        } while (page.items().size() == CourseChangeLog.MAX_PAGE_SIZE);
+        if (!changed.isEmpty()) {
+            // El puntero a la version vigente de esta instancia no vio los eventos de las demas.
+            versionService.forgetCurrent(changed);
+            reindex(new ArrayList<>(changed));
+        }
+        // Solo se avanza si la recarga termino; si fallo, la siguiente ronda la repite.
+        appliedSequence = sequence;
+    }
+
+    // Se recarga por lotes: una consulta con el arbol completo por cada REBUILD_BATCH_SIZE cursos.
+    private void reindex(List<UUID> courseIds) {
+        for (int from = 0; from < courseIds.size(); from += REBUILD_BATCH_SIZE) {
+            List<UUID> batch = courseIds.subList(from, Math.min(courseIds.size(), from + REBUILD_BATCH_SIZE));
+            reindexLive(batch);
+            reindexPublished(batch);
+        }
+    }
+
+    private void reindexLive(List<UUID> courseIds) {
+        Set<UUID> missing = new HashSet<>(courseIds);
+        for (CourseEntity course : courseRepository.findWithDetailsByIdIn(courseIds)) {
+            liveIndex.put(SearchDocument.from(CourseMapper.toResponse(course)));
+            missing.remove(course.getId());
+        }
+        missing.forEach(liveIndex::remove);
+    }
+
+    // current() omite los cursos sin version vigente: despublicados o borrados salen del indice.
+    private void reindexPublished(List<UUID> courseIds) {
+        Set<UUID> missing = new HashSet<>(courseIds);
+        for (PublishedCourse published : versionService.current(courseIds)) {
+            publishedIndex.put(SearchDocument.from(published.course()));
+            missing.remove(published.course().id());
+        }
+        missing.forEach(publishedIndex::remove);
+    }
+
+    private PageResponse<CourseSearchHit> search(CourseSearchIndex index, String query, CourseStatus status,
+                                                 String cursor, int limit) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessRuleException("La busqueda debe tener entre 1 y " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        if (limit < 1 || limit > CourseService.MAX_PAGE_SIZE) {
+            throw new BusinessRuleException("El limite debe estar entre 1 y " + CourseService.MAX_PAGE_SIZE);
+        }
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.terms(query));
+        if (terms.isEmpty()) {
+            return new PageResponse<>(List.of(), null);
+        }
+        SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : null;
+        // Uno de mas para saber si hay pagina siguiente.
+        List<CourseSearchIndex.Match> matches = index.search(terms, status, after, limit + 1);
+        boolean hasMore = matches.size() > limit;
+        List<CourseSearchIndex.Match> page = hasMore ? matches.subList(0, limit) : matches;
+        List<CourseSearchHit> items = new ArrayList<>(page.size());
+        for (CourseSearchIndex.Match match : page) {
+            items.add(toHit(match, terms));
+        }
+        String nextCursor = hasMore ? SearchCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new PageResponse<>(items, nextCursor);
+    }
+
+    private CourseSearchHit toHit(CourseSearchIndex.Match match, Set<String> terms) {
+        SearchDocument document = match.document();
+        List<SearchHighlight> highlights = new ArrayList<>();
+        for (SearchDocument.Section section : document.sections()) {
+            if (highlights.size() == MAX_HIGHLIGHTS) {
+                break;
+            }
+            if (section.terms().stream().noneMatch(terms::contains)) {
+                continue;
+            }
+            String fragment = Highlighter.fragment(section.text(), terms);
+            // Un capitulo que coincide solo por su contenido se identifica por su titulo.
+            highlights.add(new SearchHighlight(section.field(), fragment != null ? fragment : Highlighter.plain(section.text())));
+        }
+        return new CourseSearchHit(document.id(), document.code(), document.title(), document.status(),
+                match.score(), highlights);
+    }
+}
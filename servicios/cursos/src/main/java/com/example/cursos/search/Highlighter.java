@@ -0,0 +1,69 @@
+package com.example.cursos.search;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import org.springframework.web.util.HtmlUtils;
+
+final class Highlighter {
+
+    private static final int CONTEXT_BEFORE = 40;
+    private static final int FRAGMENT_LENGTH = 160;
+    private static final String ELLIPSIS = "...";
+
+    private Highlighter() {
+    }
+
+    // Devuelve el fragmento escapado como HTML con las coincidencias entre <em>, o null si no hay ninguna.
+    static String fragment(String text, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = TextAnalyzer.TOKEN.matcher(text);
+        int from = -1;
+        int to = text.length();
+        int position = 0;
+        StringBuilder fragment = new StringBuilder();
+        while (matcher.find()) {
+            if (!terms.contains(TextAnalyzer.normalize(matcher.group()))) {
+                continue;
+            }
+            if (from < 0) {
+                from = windowStart(text, matcher.start());
+                to = Math.min(text.length(), from + FRAGMENT_LENGTH);
+                position = from;
+            }
+            if (matcher.start() >= to) {
+                break;
+            }
+            fragment.append(HtmlUtils.htmlEscape(text.substring(position, matcher.start())))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(matcher.group()))
+                    .append("</em>");
+            position = matcher.end();
+            to = Math.max(to, position);
+        }
+        if (from < 0) {
+            return null;
+        }
+        fragment.append(HtmlUtils.htmlEscape(text.substring(position, to)));
+        if (from > 0) {
+            fragment.insert(0, ELLIPSIS);
+        }
+        if (to < text.length()) {
+            fragment.append(ELLIPSIS);
+        }
+        return fragment.toString();
+    }
+
+    static String plain(String text) {
+        return text != null ? HtmlUtils.htmlEscape(text) : null;
+    }
+
+    private static int windowStart(String text, int matchStart) {
+        int start = Math.max(0, matchStart - CONTEXT_BEFORE);
+        while (start > 0 && start < matchStart && !Character.isWhitespace(text.charAt(start - 1))) {
+            start++;
+        }
+        return start;
+    }
+}
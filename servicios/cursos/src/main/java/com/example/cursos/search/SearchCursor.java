@@ -0,0 +1,39 @@
+package com.example.cursos.search;
+
+import com.example.cursos.exception.BusinessRuleException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// Posicion del ultimo resultado entregado: la pagina siguiente empieza despues de (score, id), no en un
+// desplazamiento que se corre cuando el indice cambia entre paginas.
+record SearchCursor(double score, UUID id) {
+
+    static SearchCursor after(CourseSearchIndex.Match last) {
+        return new SearchCursor(last.score(), last.document().id());
+    }
+
+    // Mismo orden que el indice: puntuacion descendente y, a igual puntuacion, id ascendente.
+    boolean precedes(double otherScore, UUID otherId) {
+        int byScore = Double.compare(otherScore, score);
+        return byScore < 0 || (byScore == 0 && otherId.compareTo(id) > 0);
+    }
+
+    String encode() {
+        String raw = Double.toString(score) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new BusinessRuleException("Cursor invalido");
+            }
+            return new SearchCursor(Double.parseDouble(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleException("Cursor invalido");
+        }
+    }
+}
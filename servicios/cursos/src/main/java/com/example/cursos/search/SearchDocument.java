@@ -0,0 +1,77 @@
+package com.example.cursos.search;
+
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseResponse;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CourseStatus;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+record SearchDocument(
+        UUID id,
+        String code,
+        String title,
+        CourseStatus status,
+        Map<String, Float> weights,
+        List<Section> sections
+) {
+
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_MODULE = "module";
+    static final String FIELD_CHAPTER = "chapter";
+
+    private static final float TITLE_WEIGHT = 4f;
+    private static final float DESCRIPTION_WEIGHT = 2f;
+    private static final float MODULE_WEIGHT = 1.5f;
+    private static final float CHAPTER_WEIGHT = 1f;
+
+    // Texto corto que se usa para resaltar; el contenido de los capitulos solo aporta terminos.
+    record Section(String field, String text, Set<String> terms) {
+    }
+
+    // Se construye desde la respuesta para indexar igual el arbol vivo y el payload de una version publicada.
+    static SearchDocument from(CourseResponse course) {
+        Map<String, Float> weights = new HashMap<>();
+        List<Section> sections = new ArrayList<>();
+        addField(weights, sections, FIELD_TITLE, course.title(), TextAnalyzer.terms(course.title()), TITLE_WEIGHT);
+        addField(weights, sections, FIELD_DESCRIPTION, course.description(),
+                TextAnalyzer.terms(course.description()), DESCRIPTION_WEIGHT);
+        for (ModuleResponse module : course.modules()) {
+            List<String> terms = TextAnalyzer.terms(module.title());
+            terms.addAll(TextAnalyzer.terms(module.summary()));
+            String text = module.summary() != null ? module.summary() : module.title();
+            addField(weights, sections, FIELD_MODULE, text, terms, MODULE_WEIGHT);
+            for (ChapterResponse chapter : module.chapters()) {
+                List<String> chapterTerms = TextAnalyzer.terms(chapter.title());
+                chapterTerms.addAll(TextAnalyzer.terms(chapter.content()));
+                addField(weights, sections, FIELD_CHAPTER, chapter.title(), chapterTerms, CHAPTER_WEIGHT);
+            }
+        }
+        return new SearchDocument(course.id(), course.code(), course.title(), course.status(), weights, sections);
+    }
+
+    private static void addField(Map<String, Float> weights,
+                                 List<Section> sections,
+                                 String field,
+                                 String text,
+                                 List<String> terms,
+                                 float weight) {
+        if (terms.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        // Frecuencia amortiguada: repetir una palabra no domina sobre aparecer en el titulo.
+        frequencies.forEach((term, tf) ->
+                weights.merge(term, weight * (1f + (float) Math.log(tf)), Float::sum));
+        sections.add(new Section(field, text, new HashSet<>(frequencies.keySet())));
+    }
+}
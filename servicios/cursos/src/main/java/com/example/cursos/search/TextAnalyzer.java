@@ -0,0 +1,48 @@
+package com.example.cursos.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class TextAnalyzer {
+
+    static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOPWORDS = Set.of(
+            "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los", "para", "por", "que", "se", "su",
+            "un", "una", "and", "of", "the", "to"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            String term = normalize(matcher.group());
+            if (isIndexable(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // Sin tildes ni mayusculas: "Programacion" encuentra "programación".
+    static String normalize(String token) {
+        String decomposed = Normalizer.normalize(token, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isIndexable(String term) {
+        return term.length() > 1 && !STOPWORDS.contains(term);
+    }
+}
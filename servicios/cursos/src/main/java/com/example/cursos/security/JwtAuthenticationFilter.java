@@ -16,16 +16,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService tokenService;
+    private final GatewayIdentityVerifier identityVerifier;
 
-    public JwtAuthenticationFilter(JwtTokenService tokenService) {
+    public JwtAuthenticationFilter(JwtTokenService tokenService, GatewayIdentityVerifier identityVerifier) {
         this.tokenService = tokenService;
+        this.identityVerifier = identityVerifier;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        String identity = request.getHeader(GatewayIdentityVerifier.HEADER);
+        JwtUserPrincipal trusted = identityVerifier.verify(identity).orElse(null);
         String bearer = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
+        if (trusted != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(trusted, identity, trusted.getAuthorities()));
+        } else if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
             String token = bearer.substring(7);
             try {
                 JwtUserPrincipal principal = tokenService.parse(token);
@@ -4,6 +4,7 @@ import com.example.cursos.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -15,20 +16,20 @@ import org.springframework.util.Assert;
 @Component
 public class JwtTokenService {
 
-    private final Key signingKey;
+    private final JwtParser parser;
 
     public JwtTokenService(JwtProperties properties) {
         Assert.hasText(properties.getSecret(), "La propiedad jwt.secret es obligatoria");
         Assert.isTrue(properties.getSecret().length() >= 32, "La propiedad jwt.secret debe tener al menos 32 caracteres");
-        this.signingKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        Key signingKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public JwtUserPrincipal parse(String token) {
         try {
-            Jws<Claims> jws = Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> jws = parser.parseClaimsJws(token);
             Claims claims = jws.getBody();
             UUID userId = UUID.fromString(claims.getSubject());
             String email = claims.get("email", String.class);
@@ -0,0 +1,10 @@
+package com.example.cursos.service;
+
+import java.time.Instant;
+
+// compressed queda en null cuando el cliente ya tenia esta version y no hizo falta leer la columna.
+public record ChapterContent(
+        Instant updatedAt,
+        byte[] compressed
+) {
+}
@@ -1,32 +1,67 @@
 package com.example.cursos.service;
 
+import com.example.cursos.config.ReadOnlyTransactional;
 import com.example.cursos.dto.ChapterRequest;
 import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.ReorderMove;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
 import com.example.cursos.entity.ChapterEntity;
+import com.example.cursos.entity.CompressedTextConverter;
 import com.example.cursos.entity.ModuleEntity;
 import com.example.cursos.exception.BusinessRuleException;
 import com.example.cursos.exception.ResourceNotFoundException;
 import com.example.cursos.mapper.CourseMapper;
 import com.example.cursos.repository.ChapterRepository;
 import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Predicate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ChapterService {
 
+    private final CourseService courseService;
     private final ModuleService moduleService;
     private final ChapterRepository chapterRepository;
 
-    public ChapterService(ModuleService moduleService, ChapterRepository chapterRepository) {
+    public ChapterService(CourseService courseService,
+                          ModuleService moduleService,
+                          ChapterRepository chapterRepository) {
+        this.courseService = courseService;
         this.moduleService = moduleService;
         this.chapterRepository = chapterRepository;
     }
 
+    public List<ChapterResponse> list(UUID courseId, UUID moduleId) {
+        moduleService.ensureBelongsToCourse(courseId, moduleId);
+        return chapterRepository.findByModule_IdOrderByOrderIndex(moduleId);
+    }
+
+    // El ETag y el contenido salen de la misma fuente (la replica si esta configurada): como la replica
+    // avanza en orden, el contenido nunca es mas viejo que el ETag calculado antes.
+    // Version y bytes en la misma transaccion de solo lectura, y por tanto en la misma replica: leidos por
+    // separado, el ETag podia salir de una replica y el contenido de otra con distinto retraso.
+    // Si notModified acepta la version, la columna no se lee.
+    @ReadOnlyTransactional
+    public ChapterContent loadContent(UUID courseId, UUID moduleId, UUID chapterId, Predicate<Instant> notModified) {
+        Instant updatedAt = chapterRepository.findUpdatedAt(courseId, moduleId, chapterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Capitulo no encontrado"));
+        if (notModified.test(updatedAt)) {
+            return new ChapterContent(updatedAt, null);
+        }
+        byte[] content = chapterRepository.findCompressedContent(chapterId);
+        return new ChapterContent(updatedAt, content != null ? content : CompressedTextConverter.compress(""));
+    }
+
     @Transactional
     public ChapterResponse create(UUID courseId, UUID moduleId, ChapterRequest request) {
-        ModuleEntity module = moduleService.loadModule(courseId, moduleId);
-        validateOrderIndex(module, request.orderIndex(), null);
+        ModuleEntity module = moduleService.lockModule(courseId, moduleId);
+        if (chapterRepository.existsByModule_IdAndOrderIndex(moduleId, request.orderIndex())) {
+            throw new BusinessRuleException("El orden del capitulo ya existe en el modulo");
+        }
         ChapterEntity chapter = ChapterEntity.builder()
                 .module(module)
                 .title(request.title())
@@ -34,40 +69,91 @@ public class ChapterService {
                 .orderIndex(request.orderIndex())
                 .durationMinutes(request.durationMinutes())
                 .build();
-        module.getChapters().add(chapter);
         ChapterEntity saved = chapterRepository.save(chapter);
+        moduleService.adjustTotals(courseId, moduleId, 1, minutes(request.durationMinutes()));
+        courseService.markChanged(courseId, ChangeTarget.CHAPTER, saved.getId(), ChangeAction.CREATED);
         return CourseMapper.toChapterResponse(saved);
     }
 
     @Transactional
     public ChapterResponse update(UUID courseId, UUID moduleId, UUID chapterId, ChapterRequest request) {
-        ChapterEntity chapter = loadChapter(moduleId, chapterId);
-        validateOrderIndex(chapter.getModule(), request.orderIndex(), chapterId);
+        moduleService.lockModule(courseId, moduleId);
+        ChapterEntity chapter = lockChapter(moduleId, chapterId);
+        if (request.orderIndex() != chapter.getOrderIndex()
+                && chapterRepository.existsByModule_IdAndOrderIndexAndIdNot(moduleId, request.orderIndex(), chapterId)) {
+            throw new BusinessRuleException("El orden del capitulo ya existe en el modulo");
+        }
         chapter.setTitle(request.title());
         chapter.setContent(request.content());
         chapter.setOrderIndex(request.orderIndex());
+        int minutesDelta = minutes(request.durationMinutes()) - minutes(chapter.getDurationMinutes());
         chapter.setDurationMinutes(request.durationMinutes());
+        UUID ownerCourseId = chapter.getModule().getCourse().getId();
+        if (minutesDelta != 0) {
+            moduleService.adjustTotals(ownerCourseId, moduleId, 0, minutesDelta);
+        }
+        courseService.markChanged(ownerCourseId, ChangeTarget.CHAPTER, chapterId, ChangeAction.UPDATED);
         return CourseMapper.toChapterResponse(chapter);
     }
 
+    @Transactional
+    public List<ChapterResponse> reorder(UUID courseId, UUID moduleId, List<ReorderMove> moves) {
+        moduleService.ensureBelongsToCourse(courseId, moduleId);
+        for (ReorderMove move : moves) {
+            if (move.id().equals(move.afterId())) {
+                throw new BusinessRuleException("Un capitulo no puede moverse despues de si mismo");
+            }
+            ChapterEntity chapter = loadChapter(moduleId, move.id());
+            ChapterEntity previous = move.afterId() != null ? loadChapter(moduleId, move.afterId()) : null;
+            Integer orderIndex = slotAfter(moduleId, chapter, previous);
+            if (orderIndex == null) {
+                OrderIndexes.rebalance(chapterRepository.findSiblings(moduleId), ChapterEntity::setOrderIndex,
+                        chapterRepository::flush);
+                orderIndex = slotAfter(moduleId, chapter, previous);
+            }
+            chapter.setOrderIndex(orderIndex);
+            chapterRepository.flush();
+        }
+        courseService.markChanged(courseId, ChangeTarget.CHAPTER, OrderIndexes.movedIds(moves), ChangeAction.UPDATED);
+        return chapterRepository.findByModule_IdOrderByOrderIndex(moduleId);
+    }
+
     @Transactional
     public void delete(UUID courseId, UUID moduleId, UUID chapterId) {
-        ChapterEntity chapter = loadChapter(moduleId, chapterId);
+        moduleService.lockModule(courseId, moduleId);
+        ChapterEntity chapter = lockChapter(moduleId, chapterId);
+        UUID ownerCourseId = chapter.getModule().getCourse().getId();
         chapterRepository.delete(chapter);
+        moduleService.adjustTotals(ownerCourseId, moduleId, -1, -minutes(chapter.getDurationMinutes()));
+        courseService.markChanged(ownerCourseId, ChangeTarget.CHAPTER, chapterId, ChangeAction.DELETED);
     }
 
     ChapterEntity loadChapter(UUID moduleId, UUID chapterId) {
-        return chapterRepository.findByModule_IdAndId(moduleId, chapterId)
+        return chapterRepository.findById(chapterId)
+                .filter(chapter -> chapter.getModule().getId().equals(moduleId))
+                .orElseThrow(() -> new ResourceNotFoundException("Capitulo no encontrado"));
+    }
+
+    // Las escrituras que restan la duracion anterior la leen bloqueada; con una lectura comun (o de la cache)
+    // dos ediciones simultaneas restarian el mismo valor y los totales quedarian desfasados.
+    // Siempre despues del modulo, el mismo orden que el borrado del modulo (modulo y luego sus capitulos):
+    // en el orden inverso una edicion y un borrado simultaneos se bloquean mutuamente.
+    private ChapterEntity lockChapter(UUID moduleId, UUID chapterId) {
+        return chapterRepository.findForUpdate(moduleId, chapterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Capitulo no encontrado"));
     }
 
-    private void validateOrderIndex(ModuleEntity module, int orderIndex, UUID currentId) {
-        module.getChapters().stream()
-                .filter(existing -> currentId == null || !existing.getId().equals(currentId))
-                .filter(existing -> existing.getOrderIndex() == orderIndex)
-                .findAny()
-                .ifPresent(existing -> {
-                    throw new BusinessRuleException("El orden del capitulo ya existe en el modulo");
-                });
+    private static int minutes(Integer durationMinutes) {
+        return durationMinutes != null ? durationMinutes : 0;
+    }
+
+    private Integer slotAfter(UUID moduleId, ChapterEntity chapter, ChapterEntity previous) {
+        Integer low = previous != null ? previous.getOrderIndex() : null;
+        Integer next = chapterRepository.findNextOrderIndex(moduleId, low != null ? low : -1, chapter.getId());
+        int current = chapter.getOrderIndex();
+        if ((low == null || current > low) && (next == null || current < next)) {
+            return current;
+        }
+        return OrderIndexes.between(low, next);
     }
 }
@@ -0,0 +1,136 @@
+package com.example.cursos.service;
+
+import com.example.cursos.config.ReadOnlyTransactional;
+import com.example.cursos.dto.CourseOutlineResponse;
+import com.example.cursos.dto.CourseResponse;
+import com.example.cursos.dto.ModuleSummaryResponse;
+import com.example.cursos.entity.ChapterEntity;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.ModuleEntity;
+import com.example.cursos.exception.BusinessRuleException;
+import com.example.cursos.mapper.CourseMapper;
+import com.example.cursos.repository.ChapterOutlineRow;
+import com.example.cursos.repository.ChapterRepository;
+import com.example.cursos.repository.CourseRepository;
+import com.example.cursos.repository.ModuleRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+// Detalle de varios cursos en una sola llamada: una consulta IN por nivel del arbol (cursos, modulos, capitulos)
+// en vez de un grafo completo por curso. Los ids inexistentes se omiten y se respeta el orden pedido.
+@Service
+public class CourseBatchService {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final CourseRepository courseRepository;
+    private final ModuleRepository moduleRepository;
+    private final ChapterRepository chapterRepository;
+    private final CourseVersionService versionService;
+
+    public CourseBatchService(CourseRepository courseRepository,
+                              ModuleRepository moduleRepository,
+                              ChapterRepository chapterRepository,
+                              CourseVersionService versionService) {
+        this.courseRepository = courseRepository;
+        this.moduleRepository = moduleRepository;
+        this.chapterRepository = chapterRepository;
+        this.versionService = versionService;
+    }
+
+    @ReadOnlyTransactional
+    public List<CourseResponse> findDetails(List<UUID> ids) {
+        Set<UUID> courseIds = distinct(ids);
+        List<CourseEntity> courses = loadCourses(courseIds);
+        Map<UUID, List<ModuleEntity>> modules = loadModules(courses);
+        List<UUID> moduleIds = moduleIds(modules);
+        Map<UUID, List<ChapterEntity>> chapters = moduleIds.isEmpty()
+                ? Map.of()
+                : chapterRepository.findByModuleIds(moduleIds).stream()
+                        .collect(Collectors.groupingBy(chapter -> chapter.getModule().getId()));
+        return courses.stream()
+                .map(course -> CourseMapper.toResponse(course, modules.getOrDefault(course.getId(), List.of()), chapters))
+                .collect(Collectors.toList());
+    }
+
+    // El temario no lee el contenido de los capitulos.
+    @ReadOnlyTransactional
+    public List<CourseOutlineResponse> findOutlines(List<UUID> ids) {
+        Set<UUID> courseIds = distinct(ids);
+        List<CourseEntity> courses = loadCourses(courseIds);
+        Map<UUID, List<ModuleEntity>> modules = loadModules(courses);
+        List<UUID> moduleIds = moduleIds(modules);
+        Map<UUID, List<ChapterOutlineRow>> chapters = moduleIds.isEmpty()
+                ? Map.of()
+                : chapterRepository.findOutlineByModuleIds(moduleIds).stream()
+                        .collect(Collectors.groupingBy(ChapterOutlineRow::moduleId));
+        return courses.stream()
+                .map(course -> {
+                    List<ModuleEntity> courseModules = modules.getOrDefault(course.getId(), List.of());
+                    List<ModuleSummaryResponse> summaries = courseModules.stream()
+                            .map(CourseMapper::toModuleSummary)
+                            .collect(Collectors.toList());
+                    List<ChapterOutlineRow> rows = courseModules.stream()
+                            .flatMap(module -> chapters.getOrDefault(module.getId(), List.of()).stream())
+                            .collect(Collectors.toList());
+                    return CourseMapper.toOutline(course, summaries, rows);
+                })
+                .collect(Collectors.toList());
+    }
+
+    public List<CourseResponse> findPublishedDetails(List<UUID> ids) {
+        return versionService.current(distinct(ids)).stream()
+                .map(PublishedCourse::course)
+                .collect(Collectors.toList());
+    }
+
+    public List<CourseOutlineResponse> findPublishedOutlines(List<UUID> ids) {
+        return versionService.current(distinct(ids)).stream()
+                .map(PublishedCourse::outline)
+                .collect(Collectors.toList());
+    }
+
+    private Set<UUID> distinct(List<UUID> ids) {
+        Set<UUID> courseIds = new LinkedHashSet<>(ids);
+        if (courseIds.isEmpty() || courseIds.size() > MAX_BATCH_SIZE) {
+            throw new BusinessRuleException("Se deben pedir entre 1 y " + MAX_BATCH_SIZE + " cursos");
+        }
+        return courseIds;
+    }
+
+    private List<CourseEntity> loadCourses(Collection<UUID> courseIds) {
+        Map<UUID, CourseEntity> byId = courseRepository.findAllById(courseIds).stream()
+                .collect(Collectors.toMap(CourseEntity::getId, Function.identity()));
+        List<CourseEntity> courses = new ArrayList<>();
+        for (UUID id : courseIds) {
+            CourseEntity course = byId.get(id);
+            if (course != null) {
+                courses.add(course);
+            }
+        }
+        return courses;
+    }
+
+    private Map<UUID, List<ModuleEntity>> loadModules(List<CourseEntity> courses) {
+        if (courses.isEmpty()) {
+            return Map.of();
+        }
+        return moduleRepository.findByCourseIds(courses.stream().map(CourseEntity::getId).toList()).stream()
+                .collect(Collectors.groupingBy(module -> module.getCourse().getId()));
+    }
+
+    private List<UUID> moduleIds(Map<UUID, List<ModuleEntity>> modules) {
+        return modules.values().stream()
+                .flatMap(List::stream)
+                .map(ModuleEntity::getId)
+                .toList();
+    }
+}
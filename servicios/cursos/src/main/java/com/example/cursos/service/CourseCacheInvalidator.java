@@ -0,0 +1,51 @@
+package com.example.cursos.service;
+
+import com.example.cursos.config.CacheConfig;
+import com.example.cursos.entity.ChapterEntity;
+import com.example.cursos.entity.ModuleEntity;
+import com.example.cursos.event.CourseCatalogChangedEvent;
+import com.example.cursos.event.CourseTreeDeletedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CourseCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CourseCacheInvalidator(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // Solo tras el commit: si la transaccion hace rollback el cache sigue siendo valido.
+    @TransactionalEventListener
+    public void onCatalogChanged(CourseCatalogChangedEvent event) {
+        Cache summaries = cacheManager.getCache(CacheConfig.COURSE_SUMMARIES);
+        if (summaries != null) {
+            summaries.clear();
+        }
+        for (String name : new String[] {CacheConfig.COURSE_DETAILS, CacheConfig.COURSE_OUTLINES}) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.evict(event.courseId());
+            }
+        }
+        Cache versions = cacheManager.getCache(CacheConfig.COURSE_VERSIONS);
+        if (versions != null) {
+            versions.evict(event.courseId());
+            versions.evict(CacheConfig.CATALOG_VERSION_KEY);
+        }
+    }
+
+    // El borrado en cascada lo hace la base de datos; la cache de segundo nivel no sabe que filas cayeron.
+    @TransactionalEventListener
+    public void onTreeDeleted(CourseTreeDeletedEvent event) {
+        entityManagerFactory.getCache().evict(ModuleEntity.class);
+        entityManagerFactory.getCache().evict(ChapterEntity.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.CourseChangeResponse;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.event.CourseChangeRecordedEvent;
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+// Long-polling sobre el outbox: las peticiones sin cambios nuevos esperan hasta el siguiente commit o el timeout.
+@Component
+public class CourseChangeFeed {
+
+    public static final Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    private final CourseChangeLog changeLog;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public CourseChangeFeed(CourseChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    public DeferredResult<PageResponse<CourseChangeResponse>> poll(long after, int limit, Duration wait) {
+        PageResponse<CourseChangeResponse> page = changeLog.findAfter(after, limit);
+        if (!page.items().isEmpty() || wait.isZero()) {
+            DeferredResult<PageResponse<CourseChangeResponse>> result = new DeferredResult<>();
+            result.setResult(page);
+            return result;
+        }
+        Duration timeout = wait.compareTo(MAX_WAIT) > 0 ? MAX_WAIT : wait;
+        DeferredResult<PageResponse<CourseChangeResponse>> result = new DeferredResult<>(timeout.toMillis(), page);
+        Waiter waiter = new Waiter(after, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // Un commit entre la primera lectura y el registro no habria despertado a esta peticion.
+        if (changeLog.latestSequence() > after) {
+            complete(waiter);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void onChangeRecorded(CourseChangeRecordedEvent event) {
+        for (Waiter waiter : waiters) {
+            if (event.sequence() > waiter.after()) {
+                complete(waiter);
+            }
+        }
+    }
+
+    // El evento solo llega por los commits de esta instancia; los de las demas se ven revisando la tabla.
+    @Scheduled(fixedDelayString = "${cursos.changes.poll-interval-ms:1000}")
+    public void pollCommitted() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        long latest = changeLog.latestSequence();
+        for (Waiter waiter : waiters) {
+            if (latest > waiter.after()) {
+                complete(waiter);
+            }
+        }
+    }
+
+    private void complete(Waiter waiter) {
+        if (waiters.remove(waiter)) {
+            waiter.result().setResult(changeLog.findAfter(waiter.after(), waiter.limit()));
+        }
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<PageResponse<CourseChangeResponse>> result) {
+    }
+}
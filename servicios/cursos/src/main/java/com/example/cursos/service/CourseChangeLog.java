@@ -0,0 +1,129 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.CourseChangeResponse;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
+import com.example.cursos.entity.CourseChangeEntity;
+import com.example.cursos.entity.CourseChangeHead;
+import com.example.cursos.event.CourseChangeRecordedEvent;
+import com.example.cursos.exception.BusinessRuleException;
+import com.example.cursos.mapper.CourseMapper;
+import com.example.cursos.repository.CourseChangeHeadRepository;
+import com.example.cursos.repository.CourseChangeRepository;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class CourseChangeLog {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final CourseChangeRepository changeRepository;
+    private final CourseChangeHeadRepository headRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CourseChangeLog(CourseChangeRepository changeRepository,
+                           CourseChangeHeadRepository headRepository,
+                           ApplicationEventPublisher eventPublisher) {
+        this.changeRepository = changeRepository;
+        this.headRepository = headRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Se escribe en la misma transaccion que el cambio, pero las filas se insertan justo antes del commit:
+    // el bloqueo de la cabecera, que da secuencias en orden de commit, no abarca la transaccion de negocio.
+    @Transactional
+    public void record(UUID courseId, long revision, ChangeTarget target, Collection<UUID> entityIds, ChangeAction action) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        PendingChanges pending = pendingChanges();
+        for (UUID entityId : entityIds) {
+            pending.changes.add(CourseChangeEntity.builder()
+                    .courseId(courseId)
+                    .target(target)
+                    .entityId(entityId)
+                    .action(action)
+                    .revision(revision));
+        }
+    }
+
+    public void record(UUID courseId, long revision, ChangeTarget target, UUID entityId, ChangeAction action) {
+        record(courseId, revision, target, List.of(entityId), action);
+    }
+
+    // El cursor siempre avanza: sin cambios nuevos se devuelve el mismo, para seguir consultando desde ahi.
+    public PageResponse<CourseChangeResponse> findAfter(long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessRuleException("El limite debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        List<CourseChangeResponse> items = changeRepository.findAfter(after, PageRequest.of(0, limit)).stream()
+                .map(CourseMapper::toChangeResponse)
+                .toList();
+        long next = items.isEmpty() ? after : items.get(items.size() - 1).sequence();
+        return new PageResponse<>(items, Long.toString(next));
+    }
+
+    public long latestSequence() {
+        return changeRepository.findLatestSequence();
+    }
+
+    private PendingChanges pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                return pending;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void write(List<CourseChangeEntity.CourseChangeEntityBuilder> pending) {
+        CourseChangeHead head = headRepository.findForUpdate(CourseChangeHead.ID)
+                .orElseGet(() -> headRepository.save(new CourseChangeHead(CourseChangeHead.ID, 0)));
+        long sequence = head.getLastSequence();
+        List<CourseChangeEntity> changes = new ArrayList<>(pending.size());
+        for (CourseChangeEntity.CourseChangeEntityBuilder change : pending) {
+            changes.add(change.sequence(++sequence).build());
+        }
+        head.setLastSequence(sequence);
+        changeRepository.saveAll(changes);
+        eventPublisher.publishEvent(new CourseChangeRecordedEvent(sequence));
+    }
+
+    // Una por transaccion: las sincronizaciones se suspenden con REQUIRES_NEW, asi que cada una ve solo las suyas.
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<CourseChangeEntity.CourseChangeEntityBuilder> changes = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write(changes);
+        }
+    }
+
+    public static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            long sequence = Long.parseLong(cursor);
+            if (sequence < 0) {
+                throw new NumberFormatException(cursor);
+            }
+            return sequence;
+        } catch (NumberFormatException ex) {
+            throw new BusinessRuleException("Cursor invalido");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.CourseSort;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.exception.BusinessRuleException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+
+record CourseCursor(CourseSort sort, Sort.Direction direction, Object key, UUID id) {
+
+    static CourseCursor after(CourseEntity last, CourseSort sort, Sort.Direction direction) {
+        Object key = sort == CourseSort.CREATED_AT ? last.getCreatedAt() : last.getTitle();
+        return new CourseCursor(sort, direction, key, last.getId());
+    }
+
+    String encode() {
+        String raw = sort.name() + "|" + direction.name() + "|" + id + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CourseCursor decode(String cursor, CourseSort sort, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4
+                    || CourseSort.valueOf(parts[0]) != sort
+                    || Sort.Direction.valueOf(parts[1]) != direction) {
+                throw new BusinessRuleException("El cursor no corresponde al orden solicitado");
+            }
+            Object key = sort == CourseSort.CREATED_AT ? Instant.parse(parts[3]) : parts[3];
+            return new CourseCursor(sort, direction, key, UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessRuleException("Cursor invalido");
+        }
+    }
+}
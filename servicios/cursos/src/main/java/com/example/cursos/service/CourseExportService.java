@@ -0,0 +1,158 @@
+package com.example.cursos.service;
+
+import com.example.cursos.config.ReadOnlyTransactional;
+import com.example.cursos.entity.CompressedTextConverter;
+import com.example.cursos.entity.CourseStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+// Exporta el catalogo como NDJSON en el mismo formato que acepta CourseImportService (un curso por linea).
+// Una sola consulta ordenada recorre cursos, modulos y capitulos con un cursor del servidor y cada fila
+// se escribe en cuanto llega: la memoria no depende del tamano del catalogo ni de un curso.
+@Service
+public class CourseExportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String EXPORT_SQL = """
+            select c.id, c.code, c.title, c.description, c.status,
+                   m.id, m.title, m.summary, m.order_index,
+                   ch.title, ch.content_gz, ch.order_index, ch.duration_minutes
+            from courses c
+            left join modules m on m.course_id = c.id
+            left join chapters ch on ch.module_id = m.id
+            where (cast(? as varchar) is null or c.status = ?)
+            order by c.code, m.order_index, ch.order_index
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CourseExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // La transaccion de solo lectura es necesaria para que Postgres use el fetch size como cursor.
+    @ReadOnlyTransactional
+    public void export(CourseStatus status, OutputStream out) {
+        String statusName = status != null ? status.name() : null;
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.setRootValueSeparator(null);
+            ExportWriter writer = new ExportWriter(json, out);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setString(1, statusName);
+                statement.setString(2, statusName);
+                return statement;
+            }, writer::row);
+            writer.finish();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static final class ExportWriter {
+
+        private final JsonGenerator json;
+        private final OutputStream out;
+        private UUID courseId;
+        private UUID moduleId;
+
+        private ExportWriter(JsonGenerator json, OutputStream out) {
+            this.json = json;
+            this.out = out;
+        }
+
+        void row(ResultSet rs) throws SQLException {
+            try {
+                UUID rowCourse = rs.getObject(1, UUID.class);
+                if (!rowCourse.equals(courseId)) {
+                    finishCourse();
+                    startCourse(rs, rowCourse);
+                }
+                UUID rowModule = rs.getObject(6, UUID.class);
+                if (rowModule == null) {
+                    return;
+                }
+                if (!rowModule.equals(moduleId)) {
+                    finishModule();
+                    startModule(rs, rowModule);
+                }
+                if (rs.getString(10) != null) {
+                    writeChapter(rs);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void finish() throws IOException {
+            finishCourse();
+        }
+
+        private void startCourse(ResultSet rs, UUID id) throws SQLException, IOException {
+            courseId = id;
+            json.writeStartObject();
+            json.writeStringField("code", rs.getString(2));
+            json.writeStringField("title", rs.getString(3));
+            json.writeStringField("description", rs.getString(4));
+            json.writeStringField("status", rs.getString(5));
+            json.writeArrayFieldStart("modules");
+        }
+
+        private void startModule(ResultSet rs, UUID id) throws SQLException, IOException {
+            moduleId = id;
+            json.writeStartObject();
+            json.writeStringField("title", rs.getString(7));
+            json.writeStringField("summary", rs.getString(8));
+            json.writeNumberField("orderIndex", rs.getInt(9));
+            json.writeArrayFieldStart("chapters");
+        }
+
+        private void writeChapter(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            json.writeStringField("title", rs.getString(10));
+            json.writeStringField("content", CompressedTextConverter.decompress(rs.getBytes(11)));
+            json.writeNumberField("orderIndex", rs.getInt(12));
+            int minutes = rs.getInt(13);
+            if (rs.wasNull()) {
+                json.writeNullField("durationMinutes");
+            } else {
+                json.writeNumberField("durationMinutes", minutes);
+            }
+            json.writeEndObject();
+        }
+
+        private void finishModule() throws IOException {
+            if (moduleId != null) {
+                json.writeEndArray();
+                json.writeEndObject();
+                moduleId = null;
+            }
+        }
+
+        // Cada curso termina en su propia linea y se envia al cliente en ese momento.
+        private void finishCourse() throws IOException {
+            if (courseId != null) {
+                finishModule();
+                json.writeEndArray();
+                json.writeEndObject();
+                json.flush();
+                out.write('\n');
+                courseId = null;
+            }
+        }
+    }
+}
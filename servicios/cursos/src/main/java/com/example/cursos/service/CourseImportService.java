@@ -0,0 +1,195 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.CourseImportRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleImportRequest;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
+import com.example.cursos.entity.ChapterEntity;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.entity.ModuleEntity;
+import com.example.cursos.event.CourseCatalogChangedEvent;
+import com.example.cursos.exception.BusinessRuleException;
+import com.example.cursos.mapper.CourseMapper;
+import com.example.cursos.repository.CourseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CourseImportService {
+
+    private final CourseRepository courseRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CourseChangeLog changeLog;
+    private final CourseVersionService versionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CourseImportService(CourseRepository courseRepository,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               CourseChangeLog changeLog,
+                               CourseVersionService versionService,
+                               ApplicationEventPublisher eventPublisher) {
+        this.courseRepository = courseRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.changeLog = changeLog;
+        this.versionService = versionService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public CourseSummaryResponse importCourse(CourseImportRequest request, UUID actorId) {
+        return persist(request, actorId, new HashSet<>());
+    }
+
+    // Un curso por linea. Todo el archivo es una sola transaccion: un error en cualquier linea no deja cursos a medias.
+    @Transactional
+    public List<CourseSummaryResponse> importStream(InputStream body, UUID actorId) {
+        List<CourseSummaryResponse> imported = new ArrayList<>();
+        Set<String> codes = new HashSet<>();
+        try (MappingIterator<CourseImportRequest> lines = objectMapper.readerFor(CourseImportRequest.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                int line = lines.getCurrentLocation().getLineNr();
+                CourseImportRequest request = nextValue(lines, line);
+                validate(request, line);
+                try {
+                    imported.add(persist(request, actorId, codes));
+                } catch (BusinessRuleException ex) {
+                    throw new BusinessRuleException("Linea " + line + ": " + ex.getMessage());
+                }
+                // Cada curso se envia en lotes y se libera del contexto para que la memoria no crezca con el archivo.
+                entityManager.flush();
+                entityManager.clear();
+            }
+        } catch (JsonProcessingException ex) {
+            throw new BusinessRuleException("Linea " + ex.getLocation().getLineNr() + ": JSON invalido");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return imported;
+    }
+
+    private CourseSummaryResponse persist(CourseImportRequest request, UUID actorId, Set<String> codes) {
+        if (!codes.add(request.code()) || courseRepository.findByCode(request.code()).isPresent()) {
+            throw new BusinessRuleException("El codigo de curso ya existe");
+        }
+        CourseEntity course = CourseEntity.builder()
+                .code(request.code())
+                .title(request.title())
+                .description(request.description())
+                .status(request.status())
+                .createdBy(actorId)
+                .updatedBy(actorId)
+                .build();
+        List<ModuleImportRequest> modules = request.modules() != null ? request.modules() : List.of();
+        int[] moduleOrder = assignOrder(modules.stream().map(ModuleImportRequest::orderIndex).toList(),
+                "El orden del modulo ya existe en el curso");
+        for (int i = 0; i < modules.size(); i++) {
+            ModuleEntity module = toModule(course, modules.get(i), moduleOrder[i]);
+            course.getModules().add(module);
+            course.setChapterCount(course.getChapterCount() + module.getChapterCount());
+            course.setTotalMinutes(course.getTotalMinutes() + module.getTotalMinutes());
+        }
+        // Los totales se calculan en memoria y viajan en el mismo INSERT.
+        course.setModuleCount(modules.size());
+        CourseEntity saved = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(saved.getId()));
+        changeLog.record(saved.getId(), saved.getRevision(), ChangeTarget.COURSE, saved.getId(), ChangeAction.CREATED);
+        // Igual que en create: sin version congelada los alumnos no verian el curso importado.
+        if (saved.getStatus() == CourseStatus.PUBLISHED) {
+            versionService.freeze(saved.getId(), actorId);
+        }
+        return CourseMapper.toSummary(saved);
+    }
+
+    private ModuleEntity toModule(CourseEntity course, ModuleImportRequest request, int orderIndex) {
+        ModuleEntity module = ModuleEntity.builder()
+                .course(course)
+                .title(request.title())
+                .summary(request.summary())
+                .orderIndex(orderIndex)
+                .build();
+        List<ChapterRequest> chapters = request.chapters() != null ? request.chapters() : List.of();
+        int[] chapterOrder = assignOrder(chapters.stream().map(ChapterRequest::orderIndex).toList(),
+                "El orden del capitulo ya existe en el modulo");
+        for (int i = 0; i < chapters.size(); i++) {
+            ChapterRequest chapter = chapters.get(i);
+            module.setChapterCount(module.getChapterCount() + 1);
+            module.setTotalMinutes(module.getTotalMinutes()
+                    + (chapter.durationMinutes() != null ? chapter.durationMinutes() : 0));
+            module.getChapters().add(ChapterEntity.builder()
+                    .module(module)
+                    .title(chapter.title())
+                    .content(chapter.content())
+                    .orderIndex(chapterOrder[i])
+                    .durationMinutes(chapter.durationMinutes())
+                    .build());
+        }
+        return module;
+    }
+
+    // Misma regla que las altas individuales: los indices explicitos no se repiten y los faltantes van al final.
+    private int[] assignOrder(List<Integer> requested, String duplicateMessage) {
+        Set<Integer> used = new HashSet<>();
+        Integer max = null;
+        for (Integer orderIndex : requested) {
+            if (orderIndex != null) {
+                if (!used.add(orderIndex)) {
+                    throw new BusinessRuleException(duplicateMessage);
+                }
+                max = max == null ? orderIndex : Math.max(max, orderIndex);
+            }
+        }
+        int[] assigned = new int[requested.size()];
+        for (int i = 0; i < requested.size(); i++) {
+            if (requested.get(i) == null) {
+                max = OrderIndexes.after(max);
+                if (max == null) {
+                    throw new BusinessRuleException("El indice de orden excede el maximo permitido");
+                }
+            }
+            assigned[i] = requested.get(i) != null ? requested.get(i) : max;
+        }
+        return assigned;
+    }
+
+    private CourseImportRequest nextValue(MappingIterator<CourseImportRequest> lines, int line) throws IOException {
+        try {
+            return lines.nextValue();
+        } catch (JsonProcessingException ex) {
+            throw new BusinessRuleException("Linea " + line + ": JSON invalido");
+        }
+    }
+
+    private void validate(CourseImportRequest request, int line) {
+        Set<ConstraintViolation<CourseImportRequest>> violations = validator.validate(request);
+        violations.stream()
+                .findFirst()
+                .ifPresent(violation -> {
+                    throw new BusinessRuleException(
+                            "Linea " + line + ": " + violation.getPropertyPath() + ": " + violation.getMessage());
+                });
+    }
+}
@@ -1,40 +1,122 @@
 package com.example.cursos.service;
 
+import com.example.cursos.config.CacheConfig;
+import com.example.cursos.dto.CourseCloneRequest;
+import com.example.cursos.dto.CourseListQuery;
+import com.example.cursos.dto.CourseOutlineResponse;
 import com.example.cursos.dto.CourseRequest;
 import com.example.cursos.dto.CourseResponse;
 import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
 import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.event.CourseCatalogChangedEvent;
+import com.example.cursos.event.CourseTreeDeletedEvent;
 import com.example.cursos.exception.BusinessRuleException;
 import com.example.cursos.exception.ResourceNotFoundException;
 import com.example.cursos.mapper.CourseMapper;
+import com.example.cursos.repository.CatalogVersion;
+import com.example.cursos.repository.ChapterRepository;
 import com.example.cursos.repository.CourseRepository;
+import com.example.cursos.repository.CourseVersion;
+import com.example.cursos.repository.ModuleRepository;
 import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CourseService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final CourseRepository courseRepository;
+    private final ModuleRepository moduleRepository;
+    private final ChapterRepository chapterRepository;
+    private final CourseVersionService versionService;
+    private final CourseChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CourseService(CourseRepository courseRepository) {
+    public CourseService(CourseRepository courseRepository,
+                         ModuleRepository moduleRepository,
+                         ChapterRepository chapterRepository,
+                         CourseVersionService versionService,
+                         CourseChangeLog changeLog,
+                         ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
+        this.moduleRepository = moduleRepository;
+        this.chapterRepository = chapterRepository;
+        this.versionService = versionService;
+        this.changeLog = changeLog;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<CourseSummaryResponse> findAll() {
-        return courseRepository.findAll().stream()
+    // Las lecturas cacheadas o que acompanan a un ETag del primario no van a la replica: leidas con retraso
+    // justo despues de una invalidacion dejarian el dato viejo fijado hasta el siguiente cambio.
+    @Cacheable(CacheConfig.COURSE_SUMMARIES)
+    public PageResponse<CourseSummaryResponse> findPage(CourseListQuery query) {
+        if (query.limit() < 1 || query.limit() > MAX_PAGE_SIZE) {
+            throw new BusinessRuleException("El limite debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        CourseCursor after = query.cursor() != null
+                ? CourseCursor.decode(query.cursor(), query.sort(), query.direction())
+                : null;
+        // Se pide un registro extra para saber si existe una pagina siguiente sin hacer un count.
+        List<CourseEntity> rows = courseRepository.findPage(
+                query.status(),
+                query.titlePrefix(),
+                query.sort(),
+                query.direction(),
+                after != null ? after.key() : null,
+                after != null ? after.id() : null,
+                query.limit() + 1
+        );
+        boolean hasMore = rows.size() > query.limit();
+        List<CourseEntity> page = hasMore ? rows.subList(0, query.limit()) : rows;
+        String nextCursor = hasMore
+                ? CourseCursor.after(page.get(page.size() - 1), query.sort(), query.direction()).encode()
+                : null;
+        List<CourseSummaryResponse> items = page.stream()
                 .map(CourseMapper::toSummary)
                 .collect(Collectors.toList());
+        return new PageResponse<>(items, nextCursor);
     }
 
+    @Cacheable(CacheConfig.COURSE_DETAILS)
     public CourseResponse findById(UUID id) {
         CourseEntity course = courseRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
         return CourseMapper.toResponse(course);
     }
 
+    @Cacheable(CacheConfig.COURSE_OUTLINES)
+    public CourseOutlineResponse findOutline(UUID id) {
+        CourseEntity course = loadCourse(id);
+        return CourseMapper.toOutline(
+                course,
+                moduleRepository.findByCourse_IdOrderByOrderIndex(id),
+                chapterRepository.findOutlineByCourseId(id)
+        );
+    }
+
+    @Cacheable(value = CacheConfig.COURSE_VERSIONS, key = "T(com.example.cursos.config.CacheConfig).CATALOG_VERSION_KEY")
+    public CatalogVersion catalogVersion() {
+        return courseRepository.findCatalogVersion();
+    }
+
+    @Cacheable(CacheConfig.COURSE_VERSIONS)
+    public CourseVersion findVersion(UUID id) {
+        return courseRepository.findVersion(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+    }
+
     @Transactional
     public CourseSummaryResponse create(CourseRequest request, UUID actorId) {
         courseRepository.findByCode(request.code()).ifPresent(existing -> {
@@ -50,6 +132,11 @@ public class CourseService {
                 .updatedBy(actorId)
                 .build();
         CourseEntity saved = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(saved.getId()));
+        changeLog.record(saved.getId(), saved.getRevision(), ChangeTarget.COURSE, saved.getId(), ChangeAction.CREATED);
+        if (saved.getStatus() == CourseStatus.PUBLISHED) {
+            versionService.freeze(saved.getId(), actorId);
+        }
         return CourseMapper.toSummary(saved);
     }
 
@@ -61,18 +148,87 @@ public class CourseService {
                 .ifPresent(existing -> {
                     throw new BusinessRuleException("El codigo de curso ya existe");
                 });
+        CourseStatus previousStatus = course.getStatus();
         course.setCode(request.code());
         course.setTitle(request.title());
         course.setDescription(request.description());
         course.setStatus(request.status());
         course.setUpdatedBy(actorId);
+        markChanged(id, ChangeTarget.COURSE, id, ChangeAction.UPDATED);
+        // Pasar a PUBLISHED congela una version nueva; salir de PUBLISHED la retira para los alumnos.
+        if (request.status() == CourseStatus.PUBLISHED && previousStatus != CourseStatus.PUBLISHED) {
+            versionService.freeze(id, actorId);
+        } else if (request.status() != CourseStatus.PUBLISHED && previousStatus == CourseStatus.PUBLISHED) {
+            versionService.publicationChanged(id);
+        }
         return CourseMapper.toSummary(course);
     }
 
+    // Un solo DELETE del curso: el resto del arbol lo borra la base de datos en cascada, sin cargarlo.
+    // La cache de segundo nivel no ve esa cascada: CourseCacheInvalidator vacia las regiones de modulos y
+    // capitulos tras el commit, para que una lectura concurrente no las vuelva a llenar con filas borradas.
     @Transactional
     public void delete(UUID id) {
-        CourseEntity course = loadCourse(id);
-        courseRepository.delete(course);
+        CourseVersion version = courseRepository.findVersion(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+        courseRepository.deleteInBulk(id);
+        eventPublisher.publishEvent(new CourseTreeDeletedEvent(id));
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(id));
+        versionService.publicationChanged(id);
+        changeLog.record(id, version.revision() + 1, ChangeTarget.COURSE, id, ChangeAction.DELETED);
+    }
+
+    // Copia el arbol completo con INSERT ... SELECT; la copia queda en borrador para la nueva cohorte.
+    // El bloqueo del origen espera a las escrituras que ya ajustaron sus totales y frena las siguientes,
+    // asi los totales leidos corresponden a las filas que copian los INSERT.
+    @Transactional
+    public CourseSummaryResponse clone(UUID sourceId, CourseCloneRequest request, UUID actorId) {
+        CourseEntity source = courseRepository.findForUpdate(sourceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+        courseRepository.findByCode(request.code()).ifPresent(existing -> {
+            throw new BusinessRuleException("El codigo de curso ya existe");
+        });
+
+        CourseEntity copy = courseRepository.save(CourseEntity.builder()
+                .code(request.code())
+                .title(request.title() != null && !request.title().isBlank() ? request.title() : source.getTitle())
+                .description(source.getDescription())
+                .status(CourseStatus.DRAFT)
+                .moduleCount(source.getModuleCount())
+                .chapterCount(source.getChapterCount())
+                .totalMinutes(source.getTotalMinutes())
+                .createdBy(actorId)
+                .updatedBy(actorId)
+                .build());
+        Instant now = Instant.now();
+        moduleRepository.copyModules(sourceId, copy.getId(), now);
+        chapterRepository.copyChapters(sourceId, copy.getId(), now);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(copy.getId()));
+        changeLog.record(copy.getId(), copy.getRevision(), ChangeTarget.COURSE, copy.getId(), ChangeAction.CREATED);
+        return CourseMapper.toSummary(copy);
+    }
+
+    // Cualquier cambio en el curso, sus modulos o capitulos invalida los ETag del curso y del catalogo
+    // y queda en el outbox con la revision resultante.
+    @Transactional
+    public void markChanged(UUID id, ChangeTarget target, Collection<UUID> entityIds, ChangeAction action) {
+        courseRepository.touch(id, Instant.now());
+        changeLog.record(id, courseRepository.findRevision(id), target, entityIds, action);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(id));
+    }
+
+    public void markChanged(UUID id, ChangeTarget target, UUID entityId, ChangeAction action) {
+        markChanged(id, target, List.of(entityId), action);
+    }
+
+    void adjustTotals(UUID id, int modules, int chapters, int minutes) {
+        courseRepository.adjustTotals(id, modules, chapters, minutes);
+    }
+
+    public void ensureExists(UUID id) {
+        if (!courseRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Curso no encontrado");
+        }
     }
 
     public CourseEntity loadCourse(UUID id) {
@@ -0,0 +1,29 @@
+package com.example.cursos.service;
+
+import com.example.cursos.repository.CourseVersion;
+import java.time.Instant;
+import java.util.UUID;
+
+public record CourseSnapshot(
+        UUID id,
+        long revision,
+        Instant updatedAt,
+        byte[] json,
+        byte[] gzip
+) {
+
+    // Marca de una revision confirmada que todavia no se reconstruyo; sin cuerpo, solo ocupa el lugar en la cache.
+    static CourseSnapshot stale(CourseVersion version) {
+        return new CourseSnapshot(version.id(), version.revision(), version.updatedAt(), null, null);
+    }
+
+    boolean isStale() {
+        return json == null;
+    }
+
+    // Cada codificacion es una representacion distinta, asi que el ETag fuerte tambien cambia.
+    public String etag(boolean gzipped) {
+        String etag = new CourseVersion(id, revision, updatedAt).etag();
+        return gzipped ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.cursos.service;
+
+import com.example.cursos.config.CacheConfig;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.event.CourseCatalogChangedEvent;
+import com.example.cursos.exception.ResourceNotFoundException;
+import com.example.cursos.mapper.CourseMapper;
+import com.example.cursos.repository.CourseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import java.util.UUID;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class CourseSnapshotService {
+
+    private final CourseRepository courseRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache snapshots;
+
+    public CourseSnapshotService(CourseRepository courseRepository,
+                                 ObjectMapper objectMapper,
+                                 CacheManager cacheManager) {
+        this.courseRepository = courseRepository;
+        this.objectMapper = objectMapper;
+        this.snapshots = cacheManager.getCache(CacheConfig.COURSE_SNAPSHOTS);
+    }
+
+    public CourseSnapshot get(UUID courseId) {
+        CourseSnapshot snapshot = snapshots.get(courseId, CourseSnapshot.class);
+        if (snapshot == null || snapshot.isStale()) {
+            snapshot = build(courseId);
+            store(snapshot);
+        }
+        return snapshot;
+    }
+
+    // Tras el commit y en una transaccion nueva, para no leer el contexto de persistencia de la escritura.
+    // Solo se marca la revision nueva: el arbol se reconstruye en el siguiente get(), no en cada commit.
+    @TransactionalEventListener
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void onCatalogChanged(CourseCatalogChangedEvent event) {
+        courseRepository.findVersion(event.courseId())
+                .ifPresentOrElse(version -> store(CourseSnapshot.stale(version)),
+                        () -> snapshots.evict(event.courseId()));
+    }
+
+    private CourseSnapshot build(UUID courseId) {
+        CourseEntity course = courseRepository.findWithDetailsById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(CourseMapper.toResponse(course));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar el curso " + courseId, ex);
+        }
+        return new CourseSnapshot(course.getId(), course.getRevision(), course.getUpdatedAt(), json, Gzip.compress(json));
+    }
+
+    // Un get() concurrente puede terminar despues de un commit; nunca se reemplaza una revision mas nueva
+    // y la marca de una revision no pisa al snapshot ya construido de esa misma revision.
+    private void store(CourseSnapshot snapshot) {
+        CourseSnapshot current = snapshots.get(snapshot.id(), CourseSnapshot.class);
+        if (current == null || current.revision() < snapshot.revision()
+                || (current.revision() == snapshot.revision() && !snapshot.isStale())) {
+            snapshots.put(snapshot.id(), snapshot);
+        }
+    }
+}
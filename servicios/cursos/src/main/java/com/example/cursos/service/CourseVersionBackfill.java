@@ -0,0 +1,38 @@
+package com.example.cursos.service;
+
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.repository.CourseVersionRepository;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+// Congela los cursos publicados antes de existir las versiones. Corre en cada instancia al arrancar,
+// asi que cada curso va en su propia transaccion y el que ya congelo otra instancia se omite.
+@Component
+public class CourseVersionBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseVersionBackfill.class);
+
+    private final CourseVersionRepository versionRepository;
+    private final CourseVersionService versionService;
+
+    public CourseVersionBackfill(CourseVersionRepository versionRepository, CourseVersionService versionService) {
+        this.versionRepository = versionRepository;
+        this.versionService = versionService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void freezeUnversioned() {
+        for (UUID courseId : versionRepository.findCoursesWithoutVersion(CourseStatus.PUBLISHED)) {
+            try {
+                versionService.freezeIfUnversioned(courseId);
+            } catch (DataIntegrityViolationException ex) {
+                log.info("El curso {} ya fue versionado por otra instancia", courseId);
+            }
+        }
+    }
+}
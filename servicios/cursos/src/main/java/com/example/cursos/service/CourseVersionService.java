@@ -0,0 +1,229 @@
+package com.example.cursos.service;
+
+import com.example.cursos.config.CacheConfig;
+import com.example.cursos.dto.CourseResponse;
+import com.example.cursos.dto.CourseVersionResponse;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.entity.CourseVersionEntity;
+import com.example.cursos.event.CourseCatalogChangedEvent;
+import com.example.cursos.event.CoursePublicationChangedEvent;
+import com.example.cursos.exception.ResourceNotFoundException;
+import com.example.cursos.mapper.CourseMapper;
+import com.example.cursos.repository.CourseRepository;
+import com.example.cursos.repository.CourseVersionRepository;
+import com.example.cursos.repository.PublishedVersionRef;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class CourseVersionService {
+
+    private final CourseRepository courseRepository;
+    private final CourseVersionRepository versionRepository;
+    private final ObjectMapper objectMapper;
+    private final CourseChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache currentVersions;
+    private final Cache publishedCourses;
+    // Cuenta los desalojos de punteros; una lectura por lotes que empezo antes de uno no puede guardar su resultado.
+    private final AtomicLong pointerEvictions = new AtomicLong();
+
+    public CourseVersionService(CourseRepository courseRepository,
+                                CourseVersionRepository versionRepository,
+                                ObjectMapper objectMapper,
+                                CourseChangeLog changeLog,
+                                ApplicationEventPublisher eventPublisher,
+                                CacheManager cacheManager) {
+        this.courseRepository = courseRepository;
+        this.versionRepository = versionRepository;
+        this.objectMapper = objectMapper;
+        this.changeLog = changeLog;
+        this.eventPublisher = eventPublisher;
+        this.currentVersions = cacheManager.getCache(CacheConfig.COURSE_PUBLICATIONS);
+        this.publishedCourses = cacheManager.getCache(CacheConfig.PUBLISHED_VERSIONS);
+    }
+
+    @Transactional
+    public CourseVersionResponse publish(UUID courseId, UUID actorId) {
+        CourseEntity course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+        if (course.getStatus() != CourseStatus.PUBLISHED) {
+            course.setStatus(CourseStatus.PUBLISHED);
+            course.setUpdatedBy(actorId);
+            courseRepository.touch(courseId, Instant.now());
+            eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
+        }
+        return freeze(courseId, actorId);
+    }
+
+    // Congela el arbol actual como una nueva version; los cambios posteriores no la alteran.
+    // El bloqueo del curso serializa las publicaciones simultaneas: sin el, ambas leerian el mismo maximo.
+    @Transactional
+    public CourseVersionResponse freeze(UUID courseId, UUID actorId) {
+        courseRepository.findForUpdate(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+        Integer latest = versionRepository.findMaxVersion(courseId);
+        CourseEntity course = courseRepository.findWithDetailsById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Curso no encontrado"));
+        CourseVersionEntity version = versionRepository.save(CourseVersionEntity.builder()
+                .courseId(courseId)
+                .version(latest != null ? latest + 1 : 1)
+                .payload(serialize(CourseMapper.toResponse(course)))
+                .publishedBy(actorId)
+                .build());
+        eventPublisher.publishEvent(new CoursePublicationChangedEvent(courseId));
+        changeLog.record(courseId, courseRepository.findRevision(courseId), ChangeTarget.COURSE, courseId,
+                ChangeAction.PUBLISHED);
+        return new CourseVersionResponse(version.getId(), courseId, version.getVersion(), version.getPublishedAt());
+    }
+
+    public void publicationChanged(UUID courseId) {
+        eventPublisher.publishEvent(new CoursePublicationChangedEvent(courseId));
+    }
+
+    // La carga del puntero es atomica: un desalojo que llega mientras se lee espera a que termine y lo borra
+    // despues, en lugar de que la lectura vuelva a escribir un puntero ya reemplazado.
+    public PublishedCourse current(UUID courseId) {
+        UUID versionId = currentVersions.get(courseId,
+                () -> versionRepository.findCurrentId(courseId, CourseStatus.PUBLISHED).orElse(null));
+        if (versionId == null) {
+            throw new ResourceNotFoundException("Curso no encontrado");
+        }
+        return find(courseId, versionId);
+    }
+
+    // Igual que current, pero los punteros y las versiones que faltan en cache se leen con una consulta IN
+    // cada uno. Los cursos inexistentes o no publicados se omiten; se respeta el orden recibido.
+    public List<PublishedCourse> current(Collection<UUID> courseIds) {
+        Map<UUID, UUID> pointers = new HashMap<>();
+        List<UUID> unresolved = new ArrayList<>();
+        for (UUID courseId : courseIds) {
+            Cache.ValueWrapper pointer = currentVersions.get(courseId);
+            if (pointer == null) {
+                unresolved.add(courseId);
+            } else if (pointer.get() != null) {
+                pointers.put(courseId, (UUID) pointer.get());
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            long evictions = pointerEvictions.get();
+            Map<UUID, UUID> found = new HashMap<>();
+            for (PublishedVersionRef ref : versionRepository.findCurrentIds(unresolved, CourseStatus.PUBLISHED)) {
+                found.put(ref.courseId(), ref.versionId());
+            }
+            for (UUID courseId : unresolved) {
+                // Si hubo un desalojo desde la consulta, el lote puede ser viejo y ese puntero se relee solo.
+                UUID versionId = currentVersions.get(courseId, () -> pointerEvictions.get() == evictions
+                        ? found.get(courseId)
+                        : versionRepository.findCurrentId(courseId, CourseStatus.PUBLISHED).orElse(null));
+                if (versionId != null) {
+                    pointers.put(courseId, versionId);
+                }
+            }
+        }
+
+        Map<UUID, PublishedCourse> versions = new HashMap<>();
+        List<UUID> unloaded = new ArrayList<>();
+        for (UUID versionId : pointers.values()) {
+            PublishedCourse published = publishedCourses.get(versionId, PublishedCourse.class);
+            if (published != null) {
+                versions.put(versionId, published);
+            } else {
+                unloaded.add(versionId);
+            }
+        }
+        if (!unloaded.isEmpty()) {
+            for (CourseVersionEntity version : versionRepository.findAllById(unloaded)) {
+                PublishedCourse published = load(version);
+                publishedCourses.put(version.getId(), published);
+                versions.put(version.getId(), published);
+            }
+        }
+
+        List<PublishedCourse> result = new ArrayList<>();
+        for (UUID courseId : courseIds) {
+            PublishedCourse published = versions.get(pointers.get(courseId));
+            if (published != null) {
+                result.add(published);
+            }
+        }
+        return result;
+    }
+
+    // Una version nunca cambia, asi que se guarda en cache sin expiracion por su id.
+    public PublishedCourse find(UUID courseId, UUID versionId) {
+        PublishedCourse published = publishedCourses.get(versionId, PublishedCourse.class);
+        if (published == null) {
+            CourseVersionEntity version = versionRepository.findByCourseIdAndId(courseId, versionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Version no encontrada"));
+            published = load(version);
+            publishedCourses.put(versionId, published);
+        }
+        if (!published.course().id().equals(courseId)) {
+            throw new ResourceNotFoundException("Version no encontrada");
+        }
+        return published;
+    }
+
+    // Solo los cambios de publicacion mueven el puntero; la edicion del curso no toca estas caches.
+    @TransactionalEventListener
+    public void onPublicationChanged(CoursePublicationChangedEvent event) {
+        forgetCurrent(List.of(event.courseId()));
+    }
+
+    // Tambien para los cambios que llegan por el outbox desde otras instancias, cuyos eventos aqui no se ven.
+    // El contador sube antes del desalojo: una carga en curso que ya lo leyo termina antes de que se borre.
+    public void forgetCurrent(Collection<UUID> courseIds) {
+        pointerEvictions.incrementAndGet();
+        courseIds.forEach(currentVersions::evict);
+    }
+
+    // Para el relleno inicial: otra instancia puede haber congelado el curso mientras se esperaba el bloqueo.
+    @Transactional
+    public boolean freezeIfUnversioned(UUID courseId) {
+        CourseEntity course = courseRepository.findForUpdate(courseId).orElse(null);
+        if (course == null || course.getStatus() != CourseStatus.PUBLISHED || versionRepository.existsByCourseId(courseId)) {
+            return false;
+        }
+        freeze(courseId, null);
+        return true;
+    }
+
+    private PublishedCourse load(CourseVersionEntity version) {
+        byte[] json = version.getPayload().getBytes(StandardCharsets.UTF_8);
+        try {
+            CourseResponse course = objectMapper.readValue(json, CourseResponse.class);
+            return new PublishedCourse(version.getId(), version.getVersion(), version.getPublishedAt(), course,
+                    json, Gzip.compress(json));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Version publicada ilegible " + version.getId(), ex);
+        }
+    }
+
+    private String serialize(CourseResponse course) {
+        try {
+            return objectMapper.writeValueAsString(course);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar el curso " + course.id(), ex);
+        }
+    }
+}
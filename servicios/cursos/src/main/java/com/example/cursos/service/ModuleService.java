@@ -2,6 +2,10 @@ package com.example.cursos.service;
 
 import com.example.cursos.dto.ModuleRequest;
 import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.dto.ModuleSummaryResponse;
+import com.example.cursos.dto.ReorderMove;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
 import com.example.cursos.entity.CourseEntity;
 import com.example.cursos.entity.ModuleEntity;
 import com.example.cursos.exception.BusinessRuleException;
@@ -9,6 +13,7 @@ import com.example.cursos.exception.ResourceNotFoundException;
 import com.example.cursos.mapper.CourseMapper;
 import com.example.cursos.repository.ModuleRepository;
 import jakarta.transaction.Transactional;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 
@@ -18,24 +23,41 @@ public class ModuleService {
     private final CourseService courseService;
     private final ModuleRepository moduleRepository;
 
-    public ModuleService(CourseService courseService, ModuleRepository moduleRepository) {
+    public ModuleService(CourseService courseService,
+                         ModuleRepository moduleRepository) {
         this.courseService = courseService;
         this.moduleRepository = moduleRepository;
     }
 
+    public List<ModuleSummaryResponse> list(UUID courseId) {
+        List<ModuleSummaryResponse> modules = moduleRepository.findByCourse_IdOrderByOrderIndex(courseId);
+        if (modules.isEmpty()) {
+            courseService.ensureExists(courseId);
+        }
+        return modules;
+    }
+
     @Transactional
     public ModuleResponse create(UUID courseId, ModuleRequest request) {
         CourseEntity course = courseService.loadCourse(courseId);
-        int orderIndex = request.orderIndex() != null ? request.orderIndex() : nextOrder(course);
-        validateOrderIndex(course, orderIndex, null);
+        int orderIndex;
+        if (request.orderIndex() != null) {
+            orderIndex = request.orderIndex();
+            if (moduleRepository.existsByCourse_IdAndOrderIndex(courseId, orderIndex)) {
+                throw new BusinessRuleException("El orden del modulo ya existe en el curso");
+            }
+        } else {
+            orderIndex = nextOrder(courseId);
+        }
         ModuleEntity module = ModuleEntity.builder()
                 .course(course)
                 .title(request.title())
                 .summary(request.summary())
                 .orderIndex(orderIndex)
                 .build();
-        course.getModules().add(module);
         ModuleEntity saved = moduleRepository.save(module);
+        courseService.adjustTotals(courseId, 1, 0, 0);
+        courseService.markChanged(courseId, ChangeTarget.MODULE, saved.getId(), ChangeAction.CREATED);
         return CourseMapper.toModuleResponse(saved);
     }
 
@@ -43,38 +65,94 @@ public class ModuleService {
     public ModuleResponse update(UUID courseId, UUID moduleId, ModuleRequest request) {
         ModuleEntity module = loadModule(courseId, moduleId);
         int orderIndex = request.orderIndex() != null ? request.orderIndex() : module.getOrderIndex();
-        validateOrderIndex(module.getCourse(), orderIndex, moduleId);
+        if (orderIndex != module.getOrderIndex()
+                && moduleRepository.existsByCourse_IdAndOrderIndexAndIdNot(courseId, orderIndex, moduleId)) {
+            throw new BusinessRuleException("El orden del modulo ya existe en el curso");
+        }
         module.setTitle(request.title());
         module.setSummary(request.summary());
         module.setOrderIndex(orderIndex);
+        courseService.markChanged(courseId, ChangeTarget.MODULE, moduleId, ChangeAction.UPDATED);
         return CourseMapper.toModuleResponse(module);
     }
 
+    // Cada movimiento coloca el modulo justo despues de afterId (o al inicio si es null), en el orden recibido.
+    @Transactional
+    public List<ModuleSummaryResponse> reorder(UUID courseId, List<ReorderMove> moves) {
+        courseService.ensureExists(courseId);
+        for (ReorderMove move : moves) {
+            if (move.id().equals(move.afterId())) {
+                throw new BusinessRuleException("Un modulo no puede moverse despues de si mismo");
+            }
+            ModuleEntity module = loadModule(courseId, move.id());
+            ModuleEntity previous = move.afterId() != null ? loadModule(courseId, move.afterId()) : null;
+            Integer orderIndex = slotAfter(courseId, module, previous);
+            if (orderIndex == null) {
+                rebalance(courseId);
+                orderIndex = slotAfter(courseId, module, previous);
+            }
+            module.setOrderIndex(orderIndex);
+            moduleRepository.flush();
+        }
+        courseService.markChanged(courseId, ChangeTarget.MODULE, OrderIndexes.movedIds(moves), ChangeAction.UPDATED);
+        return moduleRepository.findByCourse_IdOrderByOrderIndex(courseId);
+    }
+
     @Transactional
     public void delete(UUID courseId, UUID moduleId) {
-        ModuleEntity module = loadModule(courseId, moduleId);
+        // Bloqueado: los totales que se restan al curso incluyen las altas de capitulos concurrentes.
+        ModuleEntity module = lockModule(courseId, moduleId);
         moduleRepository.delete(module);
+        courseService.adjustTotals(courseId, -1, -module.getChapterCount(), -module.getTotalMinutes());
+        courseService.markChanged(courseId, ChangeTarget.MODULE, moduleId, ChangeAction.DELETED);
+    }
+
+    // Se actualizan modulo y curso con incrementos atomicos, sin recorrer los capitulos.
+    void adjustTotals(UUID courseId, UUID moduleId, int chapters, int minutes) {
+        moduleRepository.adjustTotals(moduleId, chapters, minutes);
+        courseService.adjustTotals(courseId, 0, chapters, minutes);
+    }
+
+    void ensureBelongsToCourse(UUID courseId, UUID moduleId) {
+        if (!moduleRepository.existsByCourse_IdAndId(courseId, moduleId)) {
+            throw new ResourceNotFoundException("Modulo no encontrado");
+        }
+    }
+
+    // Las altas de capitulos y el borrado del modulo se ordenan sobre la fila del modulo: un alta nunca suma
+    // al curso los totales de un modulo que otro hilo ya borro.
+    ModuleEntity lockModule(UUID courseId, UUID moduleId) {
+        return moduleRepository.findForUpdate(courseId, moduleId)
+                .orElseThrow(() -> new ResourceNotFoundException("Modulo no encontrado"));
     }
 
     ModuleEntity loadModule(UUID courseId, UUID moduleId) {
-        return moduleRepository.findByCourse_IdAndId(courseId, moduleId)
+        // findById pasa por la cache de segundo nivel; el id del curso se lee del proxy sin cargarlo.
+        return moduleRepository.findById(moduleId)
+                .filter(module -> module.getCourse().getId().equals(courseId))
                 .orElseThrow(() -> new ResourceNotFoundException("Modulo no encontrado"));
     }
 
-    private void validateOrderIndex(CourseEntity course, int orderIndex, UUID currentId) {
-        course.getModules().stream()
-                .filter(existing -> currentId == null || !existing.getId().equals(currentId))
-                .filter(existing -> existing.getOrderIndex() == orderIndex)
-                .findAny()
-                .ifPresent(existing -> {
-                    throw new BusinessRuleException("El orden del modulo ya existe en el curso");
-                });
+    private Integer slotAfter(UUID courseId, ModuleEntity module, ModuleEntity previous) {
+        Integer low = previous != null ? previous.getOrderIndex() : null;
+        Integer next = moduleRepository.findNextOrderIndex(courseId, low != null ? low : -1, module.getId());
+        int current = module.getOrderIndex();
+        if ((low == null || current > low) && (next == null || current < next)) {
+            return current;
+        }
+        return OrderIndexes.between(low, next);
+    }
+
+    private int nextOrder(UUID courseId) {
+        Integer orderIndex = OrderIndexes.after(moduleRepository.findMaxOrderIndex(courseId));
+        if (orderIndex == null) {
+            rebalance(courseId);
+            orderIndex = OrderIndexes.after(moduleRepository.findMaxOrderIndex(courseId));
+        }
+        return orderIndex;
     }
 
-    private int nextOrder(CourseEntity course) {
-        return course.getModules().stream()
-                .map(ModuleEntity::getOrderIndex)
-                .max(Integer::compareTo)
-                .orElse(-1) + 1;
+    private void rebalance(UUID courseId) {
+        OrderIndexes.rebalance(moduleRepository.findSiblings(courseId), ModuleEntity::setOrderIndex, moduleRepository::flush);
     }
 }
@@ -0,0 +1,51 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ReorderMove;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+
+// Los indices de orden se reparten con huecos: mover un elemento suele ser una sola fila actualizada.
+final class OrderIndexes {
+
+    static final int GAP = 1024;
+
+    private OrderIndexes() {
+    }
+
+    static List<UUID> movedIds(List<ReorderMove> moves) {
+        return moves.stream().map(ReorderMove::id).distinct().toList();
+    }
+
+    // Indice para agregar al final; null si ya no cabe y hay que rebalancear.
+    static Integer after(Integer max) {
+        if (max == null) {
+            return GAP;
+        }
+        return max <= Integer.MAX_VALUE - GAP ? max + GAP : null;
+    }
+
+    // Indice libre entre previous y next (ambos exclusivos, null es inicio o final); null si no queda hueco.
+    static Integer between(Integer previous, Integer next) {
+        if (next == null) {
+            return after(previous);
+        }
+        int low = previous != null ? previous : -1;
+        if (next - low < 2) {
+            return null;
+        }
+        return low + (next - low) / 2;
+    }
+
+    // Dos pasadas para no violar el UNIQUE (padre, order_index): primero negativos y luego los definitivos.
+    static <T> void rebalance(List<T> ordered, ObjIntConsumer<T> setOrderIndex, Runnable flush) {
+        for (int i = 0; i < ordered.size(); i++) {
+            setOrderIndex.accept(ordered.get(i), -(i + 1));
+        }
+        flush.run();
+        for (int i = 0; i < ordered.size(); i++) {
+            setOrderIndex.accept(ordered.get(i), (i + 1) * GAP);
+        }
+        flush.run();
+    }
+}
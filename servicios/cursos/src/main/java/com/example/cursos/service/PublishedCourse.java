@@ -0,0 +1,55 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseOutlineResponse;
+import com.example.cursos.dto.CourseResponse;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.dto.ModuleSummaryResponse;
+import com.example.cursos.exception.ResourceNotFoundException;
+import com.example.cursos.mapper.CourseMapper;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public record PublishedCourse(
+        UUID versionId,
+        int version,
+        Instant publishedAt,
+        CourseResponse course,
+        byte[] json,
+        byte[] gzip
+) {
+
+    public String etag(boolean gzipped) {
+        return "\"v-" + versionId + (gzipped ? "-gzip" : "") + "\"";
+    }
+
+    public CourseOutlineResponse outline() {
+        return CourseMapper.toOutline(course);
+    }
+
+    public List<ModuleSummaryResponse> modules() {
+        return course.modules().stream()
+                .map(CourseMapper::toModuleSummary)
+                .collect(Collectors.toList());
+    }
+
+    public List<ChapterResponse> chapters(UUID moduleId) {
+        return module(moduleId).chapters();
+    }
+
+    public ChapterResponse chapter(UUID moduleId, UUID chapterId) {
+        return module(moduleId).chapters().stream()
+                .filter(chapter -> chapter.id().equals(chapterId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Capitulo no encontrado"));
+    }
+
+    private ModuleResponse module(UUID moduleId) {
+        return course.modules().stream()
+                .filter(module -> module.id().equals(moduleId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Modulo no encontrado"));
+    }
+}
@@ -0,0 +1,59 @@
+package db.migration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.zip.GZIPOutputStream;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+// El contenido de los capitulos pasa de text a bytea con gzip; la compresion se hace en Java
+// porque Postgres no trae gzip. Se lee con cursor para no cargar toda la tabla en memoria.
+// La compresion va copiada aqui y no se toma de CompressedTextConverter: la migracion no debe cambiar
+// aunque cambie el codigo de la aplicacion.
+public class V7__Compress_chapter_content extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 200;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("ALTER TABLE chapters ADD COLUMN content_gz BYTEA");
+        }
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement("UPDATE chapters SET content_gz = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rows = select.executeQuery("SELECT id, content FROM chapters WHERE content IS NOT NULL")) {
+                int pending = 0;
+                while (rows.next()) {
+                    update.setBytes(1, gzip(rows.getString(2)));
+                    update.setObject(2, rows.getObject(1));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("ALTER TABLE chapters DROP COLUMN content");
+        }
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, text.length() / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,8 @@
+-- Indices para la paginacion por keyset de GET /cursos: (clave de orden, id) con y sin filtro de estado.
+CREATE INDEX idx_courses_title_id ON courses(title, id);
+CREATE INDEX idx_courses_created_at_id ON courses(created_at, id);
+CREATE INDEX idx_courses_status_title_id ON courses(status, title, id);
+CREATE INDEX idx_courses_status_created_at_id ON courses(status, created_at, id);
+
+-- Busqueda por prefijo de titulo sin distinguir mayusculas (lower(title) LIKE 'abc%').
+CREATE INDEX idx_courses_title_prefix ON courses(lower(title) text_pattern_ops);
@@ -0,0 +1,2 @@
+-- Version agregada del curso: se incrementa con cualquier cambio del curso, sus modulos o capitulos.
+ALTER TABLE courses ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,30 @@
+-- Totales mantenidos por la aplicacion en la misma transaccion que cada alta, cambio o baja.
+ALTER TABLE modules
+    ADD COLUMN chapter_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN total_minutes INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE courses
+    ADD COLUMN module_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN chapter_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN total_minutes INTEGER NOT NULL DEFAULT 0;
+
+UPDATE modules m
+SET chapter_count = totals.chapter_count,
+    total_minutes = totals.total_minutes
+FROM (
+    SELECT module_id, COUNT(*) AS chapter_count, COALESCE(SUM(duration_minutes), 0) AS total_minutes
+    FROM chapters
+    GROUP BY module_id
+) totals
+WHERE totals.module_id = m.id;
+
+UPDATE courses c
+SET module_count = totals.module_count,
+    chapter_count = totals.chapter_count,
+    total_minutes = totals.total_minutes
+FROM (
+    SELECT course_id, COUNT(*) AS module_count, SUM(chapter_count) AS chapter_count, SUM(total_minutes) AS total_minutes
+    FROM modules
+    GROUP BY course_id
+) totals
+WHERE totals.course_id = c.id;
@@ -0,0 +1,10 @@
+-- Versiones publicadas e inmutables del arbol del curso; los alumnos solo leen de aqui.
+CREATE TABLE course_versions (
+    id UUID PRIMARY KEY,
+    course_id UUID NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
+    version INTEGER NOT NULL,
+    payload TEXT NOT NULL,
+    published_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    published_by UUID,
+    UNIQUE (course_id, version)
+);
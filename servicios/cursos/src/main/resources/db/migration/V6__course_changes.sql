@@ -0,0 +1,18 @@
+-- Outbox de cambios del catalogo. La secuencia se asigna bajo el bloqueo de course_change_head,
+-- de modo que el orden de las secuencias coincide con el orden de commit.
+CREATE TABLE course_change_head (
+    id SMALLINT PRIMARY KEY,
+    last_sequence BIGINT NOT NULL
+);
+
+INSERT INTO course_change_head (id, last_sequence) VALUES (1, 0);
+
+CREATE TABLE course_changes (
+    sequence BIGINT PRIMARY KEY,
+    course_id UUID NOT NULL,
+    target VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    revision BIGINT NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,159 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
+import com.example.cursos.entity.CourseChangeEntity;
+import com.example.cursos.entity.CourseChangeHead;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.repository.CourseChangeHeadRepository;
+import com.example.cursos.repository.CourseChangeRepository;
+import com.example.cursos.service.ChapterService;
+import com.example.cursos.service.CourseChangeLog;
+import com.example.cursos.service.CourseService;
+import com.example.cursos.service.ModuleService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "INSTRUCTOR")
+class CourseChangeFeedTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private CourseChangeLog changeLog;
+
+    @Autowired
+    private CourseChangeRepository changeRepository;
+
+    @Autowired
+    private CourseChangeHeadRepository headRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void feed_lists_changes_in_commit_order_with_revisions() throws Exception {
+        long cursor = changeLog.latestSequence();
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("FEED-" + UUID.randomUUID(), "Cambios", null, CourseStatus.DRAFT), null);
+        ModuleResponse module = moduleService.create(course.id(), new ModuleRequest("Modulo", null, null));
+        ChapterResponse chapter = chapterService.create(course.id(), module.id(), new ChapterRequest("Capitulo", "x", 1, 5));
+        chapterService.update(course.id(), module.id(), chapter.id(), new ChapterRequest("Capitulo", "y", 1, 5));
+        moduleService.delete(course.id(), module.id());
+
+        mockMvc.perform(asyncDispatch(feed(cursor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(5)))
+                .andExpect(jsonPath("$.items[*].target").value(contains("COURSE", "MODULE", "CHAPTER", "CHAPTER", "MODULE")))
+                .andExpect(jsonPath("$.items[*].action").value(contains("CREATED", "CREATED", "CREATED", "UPDATED", "DELETED")))
+                .andExpect(jsonPath("$.items[*].revision").value(contains(0, 1, 2, 3, 4)))
+                .andExpect(jsonPath("$.items[4].entityId").value(module.id().toString()))
+                .andExpect(jsonPath("$.nextCursor").value(Long.toString(cursor + 5)));
+
+        mockMvc.perform(asyncDispatch(feed(cursor + 5)))
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.nextCursor").value(Long.toString(cursor + 5)));
+    }
+
+    @Test
+    void long_poll_completes_when_a_change_is_committed() throws Exception {
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("POLL-" + UUID.randomUUID(), "Espera", null, CourseStatus.DRAFT), null);
+        long cursor = changeLog.latestSequence();
+
+        MvcResult pending = mockMvc.perform(get("/cursos/cambios")
+                        .param("cursor", Long.toString(cursor))
+                        .param("wait", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ModuleResponse module = moduleService.create(course.id(), new ModuleRequest("Modulo", null, null));
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].entityId").value(module.id().toString()))
+                .andExpect(jsonPath("$.items[0].action").value("CREATED"));
+    }
+
+    @Test
+    void long_poll_sees_changes_committed_by_another_instance() throws Exception {
+        long cursor = changeLog.latestSequence();
+        MvcResult pending = mockMvc.perform(get("/cursos/cambios")
+                        .param("cursor", Long.toString(cursor))
+                        .param("wait", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Escrito sin pasar por CourseChangeLog, como lo veria esta instancia si el commit fuera de otra.
+        UUID courseId = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            CourseChangeHead head = headRepository.findForUpdate(CourseChangeHead.ID)
+                    .orElseGet(() -> headRepository.save(new CourseChangeHead(CourseChangeHead.ID, 0)));
+            head.setLastSequence(head.getLastSequence() + 1);
+            changeRepository.save(CourseChangeEntity.builder()
+                    .sequence(head.getLastSequence())
+                    .courseId(courseId)
+                    .target(ChangeTarget.COURSE)
+                    .entityId(courseId)
+                    .action(ChangeAction.UPDATED)
+                    .revision(1)
+                    .build());
+        });
+
+        assertThat(pending.getAsyncResult(5_000)).isNotNull();
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].courseId").value(courseId.toString()));
+    }
+
+    @Test
+    void rejects_invalid_cursor() throws Exception {
+        mockMvc.perform(get("/cursos/cambios").param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // La respuesta siempre es un DeferredResult, aunque ya tenga resultado.
+    private MvcResult feed(long cursor) throws Exception {
+        return mockMvc.perform(get("/cursos/cambios").param("cursor", Long.toString(cursor)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
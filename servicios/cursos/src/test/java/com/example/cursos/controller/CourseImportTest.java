@@ -0,0 +1,161 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.dto.CourseOutlineResponse;
+import com.example.cursos.repository.CourseRepository;
+import com.example.cursos.security.JwtUserPrincipal;
+import com.example.cursos.service.CourseService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class CourseImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Test
+    void ndjson_imports_one_course_tree_per_line() throws Exception {
+        String body = course("IMP-" + UUID.randomUUID(), 1) + "\n" + course("IMP-" + UUID.randomUUID(), 2) + "\n";
+
+        String response = mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode imported = objectMapper.readTree(response);
+        CourseOutlineResponse outline = courseService.findOutline(UUID.fromString(imported.get(0).path("id").asText()));
+        assertThat(outline.modules()).hasSize(2);
+        assertThat(outline.modules().get(0).orderIndex()).isEqualTo(0);
+        assertThat(outline.modules().get(1).orderIndex()).isEqualTo(1024);
+        assertThat(outline.modules().get(1).chapters()).extracting("title").containsExactly("Capitulo 1", "Capitulo 2");
+    }
+
+    @Test
+    void invalid_line_rolls_back_the_whole_import() throws Exception {
+        String validCode = "IMP-" + UUID.randomUUID();
+        String duplicatedChapters = "{\"code\":\"IMP-" + UUID.randomUUID() + "\",\"title\":\"Curso\",\"status\":\"DRAFT\","
+                + "\"modules\":[{\"title\":\"M\",\"chapters\":[{\"title\":\"A\",\"orderIndex\":1},{\"title\":\"B\",\"orderIndex\":1}]}]}";
+
+        mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(course(validCode, 1) + "\n" + duplicatedChapters + "\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", startsWith("Linea 2:")));
+
+        assertThat(courseRepository.findByCode(validCode)).isEmpty();
+    }
+
+    @Test
+    void json_body_imports_a_single_course() throws Exception {
+        mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(course("IMP-" + UUID.randomUUID(), 3)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Curso importado 3"))
+                .andExpect(jsonPath("$.moduleCount").value(2))
+                .andExpect(jsonPath("$.chapterCount").value(2))
+                .andExpect(jsonPath("$.totalMinutes").value(5));
+    }
+
+    @Test
+    void export_writes_lines_that_import_back() throws Exception {
+        String code = "EXP-" + UUID.randomUUID();
+        mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(course(code, 4)))
+                .andExpect(status().isOk());
+
+        MvcResult started = mockMvc.perform(get("/cursos/exportar").param("status", "PUBLISHED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String exported = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String line = exported.lines()
+                .filter(candidate -> candidate.contains("\"" + code + "\""))
+                .findFirst().orElseThrow();
+        JsonNode node = objectMapper.readTree(line);
+        assertThat(node.path("modules")).hasSize(2);
+        assertThat(node.path("modules").get(1).path("chapters").get(0).path("content").asText()).isEqualTo("a");
+
+        String copyCode = "EXP-" + UUID.randomUUID();
+        String response = mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(line.replace(code, copyCode) + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].chapterCount").value(2))
+                .andExpect(jsonPath("$[0].totalMinutes").value(5))
+                .andReturn().getResponse().getContentAsString();
+
+        CourseOutlineResponse copy = courseService.findOutline(
+                UUID.fromString(objectMapper.readTree(response).get(0).path("id").asText()));
+        assertThat(copy.modules().get(1).chapters()).extracting("title").containsExactly("Capitulo 1", "Capitulo 2");
+    }
+
+    @Test
+    void published_import_is_readable_by_learners() throws Exception {
+        String response = mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(course("IMP-" + UUID.randomUUID(), 5)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        UUID id = UUID.fromString(objectMapper.readTree(response).path("id").asText());
+
+        JwtUserPrincipal learner = new JwtUserPrincipal(UUID.randomUUID(), "user@test.com", "USER");
+        RequestPostProcessor asLearner = authentication(
+                new UsernamePasswordAuthenticationToken(learner, null, learner.getAuthorities()));
+        mockMvc.perform(get("/cursos/{id}", id).with(asLearner))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Curso importado 5"))
+                .andExpect(jsonPath("$.modules[1].chapters[0].title").value("Capitulo 1"));
+        mockMvc.perform(get("/cursos/{id}/temario", id).with(asLearner))
+                .andExpect(status().isOk());
+    }
+
+    private String course(String code, int number) {
+        return "{\"code\":\"" + code + "\",\"title\":\"Curso importado " + number + "\",\"status\":\"PUBLISHED\","
+                + "\"modules\":[{\"title\":\"Intro\",\"orderIndex\":0},"
+                + "{\"title\":\"Modulo\",\"chapters\":["
+                + "{\"title\":\"Capitulo 2\",\"content\":\"b\",\"orderIndex\":2},"
+                + "{\"title\":\"Capitulo 1\",\"content\":\"a\",\"orderIndex\":1,\"durationMinutes\":5}]}]}";
+    }
+}
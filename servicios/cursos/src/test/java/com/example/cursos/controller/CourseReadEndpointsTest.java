@@ -0,0 +1,213 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.security.JwtUserPrincipal;
+import com.example.cursos.service.ChapterService;
+import com.example.cursos.service.CourseService;
+import com.example.cursos.service.ModuleService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "INSTRUCTOR")
+class CourseReadEndpointsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private CourseSummaryResponse course;
+    private ModuleResponse module;
+    private ChapterResponse chapter;
+
+    @BeforeEach
+    void setUp() {
+        course = courseService.create(
+                new CourseRequest("READ-" + UUID.randomUUID(), "Lectura", "Descripcion", CourseStatus.PUBLISHED), null);
+        module = moduleService.create(course.id(), new ModuleRequest("Modulo", "Resumen", 1));
+        chapter = chapterService.create(course.id(), module.id(), new ChapterRequest("Capitulo", "0123456789", 1, 15));
+    }
+
+    @Test
+    void outline_omits_chapter_content() throws Exception {
+        mockMvc.perform(get("/cursos/{id}/temario", course.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.modules", hasSize(1)))
+                .andExpect(jsonPath("$.modules[0].chapters[0].title").value("Capitulo"))
+                .andExpect(jsonPath("$.modules[0].chapters[0].durationMinutes").value(15))
+                .andExpect(jsonPath("$.modules[0].chapters[0].content").doesNotExist());
+    }
+
+    @Test
+    void batch_returns_requested_courses_in_order() throws Exception {
+        CourseSummaryResponse other = courseService.create(
+                new CourseRequest("READ-" + UUID.randomUUID(), "Otro", null, CourseStatus.DRAFT), null);
+
+        mockMvc.perform(get("/cursos/lote")
+                        .param("ids", other.id().toString(), UUID.randomUUID().toString(), course.id().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Otro"))
+                .andExpect(jsonPath("$[0].modules", hasSize(0)))
+                .andExpect(jsonPath("$[1].modules[0].chapters[0].content").value("0123456789"));
+
+        mockMvc.perform(get("/cursos/lote/temario").param("ids", course.id().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].modules[0].chapters[0].durationMinutes").value(15))
+                .andExpect(jsonPath("$[0].modules[0].chapters[0].content").doesNotExist());
+    }
+
+    @Test
+    void chapter_content_supports_etag_and_ranges() throws Exception {
+        String url = "/cursos/{c}/modulos/{m}/capitulos/{ch}/contenido";
+        String etag = mockMvc.perform(get(url, course.id(), module.id(), chapter.id()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url, course.id(), module.id(), chapter.id()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get(url, course.id(), module.id(), chapter.id()).header(HttpHeaders.RANGE, "bytes=2-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("234"));
+
+        mockMvc.perform(get(url, UUID.randomUUID(), module.id(), chapter.id()))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(HttpHeaders.ETAG, nullValue()));
+    }
+
+    @Test
+    void chapter_content_is_sent_compressed_as_stored() throws Exception {
+        String url = "/cursos/{c}/modulos/{m}/capitulos/{ch}/contenido";
+        var response = mockMvc.perform(get(url, course.id(), module.id(), chapter.id())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("0123456789");
+        }
+        mockMvc.perform(get(url, course.id(), module.id(), chapter.id())
+                        .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void course_etag_changes_when_a_chapter_changes() throws Exception {
+        String etag = mockMvc.perform(get("/cursos/{id}", course.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/cursos/{id}/modulos", course.id()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/cursos/{id}", course.id()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        chapterService.update(course.id(), module.id(), chapter.id(),
+                new ChapterRequest("Capitulo editado", "0123456789", 1, 20));
+
+        String updated = mockMvc.perform(get("/cursos/{id}", course.id()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.modules[0].chapters[0].title").value("Capitulo editado"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/cursos/{c}/modulos/{m}/capitulos", course.id(), module.id())
+                        .header(HttpHeaders.IF_NONE_MATCH, updated))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void catalog_etag_changes_when_a_course_is_added() throws Exception {
+        String etag = mockMvc.perform(get("/cursos"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/cursos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        courseService.create(
+                new CourseRequest("READ-" + UUID.randomUUID(), "Otro", "Descripcion", CourseStatus.DRAFT), null);
+
+        mockMvc.perform(get("/cursos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void catalog_etag_differs_between_learner_and_staff_views() throws Exception {
+        String staffEtag = mockMvc.perform(get("/cursos"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        UsernamePasswordAuthenticationToken learner = new UsernamePasswordAuthenticationToken(
+                new JwtUserPrincipal(UUID.randomUUID(), "alumno@test.com", "USER"), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        mockMvc.perform(get("/cursos").with(authentication(learner)).header(HttpHeaders.IF_NONE_MATCH, staffEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(staffEtag)));
+    }
+
+    @Test
+    void course_detail_is_served_gzipped_from_snapshot() throws Exception {
+        byte[] body = mockMvc.perform(get("/cursos/{id}", course.id()).header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            JsonNode json = objectMapper.readTree(in.readAllBytes());
+            assertThat(json.path("id").asText()).isEqualTo(course.id().toString());
+            assertThat(json.path("modules").get(0).path("chapters").get(0).path("content").asText()).isEqualTo("0123456789");
+        }
+    }
+}
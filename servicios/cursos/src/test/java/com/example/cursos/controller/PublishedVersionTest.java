@@ -0,0 +1,141 @@
+package com.example.cursos.controller;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.security.JwtUserPrincipal;
+import com.example.cursos.service.ChapterService;
+import com.example.cursos.service.CourseService;
+import com.example.cursos.service.ModuleService;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PublishedVersionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    private CourseSummaryResponse course;
+    private ModuleResponse module;
+
+    @BeforeEach
+    void setUp() {
+        course = courseService.create(
+                new CourseRequest("PUB-" + UUID.randomUUID(), "Publicado", "Descripcion", CourseStatus.DRAFT), null);
+        module = moduleService.create(course.id(), new ModuleRequest("Modulo", "Resumen", 1));
+        chapterService.create(course.id(), module.id(), new ChapterRequest("Capitulo", "v1", 1, 10));
+    }
+
+    @Test
+    void learners_read_the_frozen_version_until_the_next_publication() throws Exception {
+        mockMvc.perform(post("/cursos/{id}/publicar", course.id()).with(as("INSTRUCTOR")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        String etag = mockMvc.perform(get("/cursos/{id}", course.id()).with(as("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.modules", hasSize(1)))
+                .andExpect(header().string(HttpHeaders.CONTENT_LOCATION, containsString("/versiones/")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        moduleService.create(course.id(), new ModuleRequest("Modulo nuevo", "Resumen", 2));
+
+        mockMvc.perform(get("/cursos/{id}", course.id()).with(as("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.modules", hasSize(1)))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/cursos/{id}/modulos", course.id()).with(as("USER")))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/cursos/{id}", course.id()).with(as("INSTRUCTOR")))
+                .andExpect(jsonPath("$.modules", hasSize(2)));
+
+        mockMvc.perform(post("/cursos/{id}/publicar", course.id()).with(as("INSTRUCTOR")))
+                .andExpect(jsonPath("$.version").value(2));
+
+        String republished = mockMvc.perform(get("/cursos/{id}", course.id()).with(as("USER")))
+                .andExpect(jsonPath("$.modules", hasSize(2)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(republished).isNotEqualTo(etag);
+    }
+
+    @Test
+    void versioned_url_is_immutable() throws Exception {
+        mockMvc.perform(post("/cursos/{id}/publicar", course.id()).with(as("INSTRUCTOR")))
+                .andExpect(status().isOk());
+        String location = mockMvc.perform(get("/cursos/{id}", course.id()).with(as("USER")))
+                .andReturn().getResponse().getHeader(HttpHeaders.CONTENT_LOCATION);
+
+        mockMvc.perform(get(location).with(as("USER")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(jsonPath("$.title").value("Publicado"));
+        mockMvc.perform(get("/cursos/{id}/modulos/{moduleId}/capitulos", course.id(), module.id()).with(as("USER")))
+                .andExpect(jsonPath("$[0].title").value("Capitulo"));
+    }
+
+    @Test
+    void learners_batch_only_includes_published_versions() throws Exception {
+        CourseSummaryResponse draft = courseService.create(
+                new CourseRequest("PUB-" + UUID.randomUUID(), "Borrador", null, CourseStatus.DRAFT), null);
+        mockMvc.perform(post("/cursos/{id}/publicar", course.id()).with(as("INSTRUCTOR")))
+                .andExpect(status().isOk());
+        moduleService.create(course.id(), new ModuleRequest("Modulo nuevo", "Resumen", 2));
+
+        mockMvc.perform(get("/cursos/lote").param("ids", draft.id() + "," + course.id()).with(as("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(course.id().toString()))
+                .andExpect(jsonPath("$[0].modules", hasSize(1)));
+    }
+
+    @Test
+    void learners_cannot_read_unpublished_courses() throws Exception {
+        mockMvc.perform(get("/cursos/{id}", course.id()).with(as("USER")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/cursos/{id}", course.id()).with(as("INSTRUCTOR")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+
+    private static RequestPostProcessor as(String role) {
+        JwtUserPrincipal principal = new JwtUserPrincipal(UUID.randomUUID(), role.toLowerCase() + "@test.com", role);
+        Authentication token = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        return authentication(token);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.cursos.search;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSearchHit;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.entity.ChangeAction;
+import com.example.cursos.entity.ChangeTarget;
+import com.example.cursos.entity.CourseEntity;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.exception.BusinessRuleException;
+import com.example.cursos.repository.CourseRepository;
+import com.example.cursos.service.ChapterService;
+import com.example.cursos.service.CourseChangeLog;
+import com.example.cursos.service.CourseService;
+import com.example.cursos.service.CourseVersionService;
+import com.example.cursos.service.ModuleService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseSearchTest {
+
+    @Autowired
+    private CourseSearchService searchService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private CourseVersionService versionService;
+
+    @Autowired
+    private CourseChangeLog changeLog;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void title_matches_rank_above_chapter_content_and_index_follows_writes() {
+        CourseSummaryResponse inContent = create("Redes basicas", CourseStatus.PUBLISHED);
+        ModuleResponse module = moduleService.create(inContent.id(), new ModuleRequest("Modulo", null, 1));
+        chapterService.create(inContent.id(), module.id(),
+                new ChapterRequest("Capitulo", "Configuracion de un enrutador zafiro", 1, 10));
+        CourseSummaryResponse inTitle = create("Curso Zafiro avanzado", CourseStatus.PUBLISHED);
+        searchService.catchUp();
+
+        PageResponse<CourseSearchHit> page = searchService.search("zafiro", null, null, 10);
+
+        assertThat(page.items()).extracting(CourseSearchHit::id).containsExactly(inTitle.id(), inContent.id());
+        assertThat(page.items().get(0).highlights().get(0).fragment()).isEqualTo("Curso <em>Zafiro</em> avanzado");
+        assertThat(page.items().get(1).highlights()).extracting("field").containsExactly("chapter");
+
+        courseService.delete(inTitle.id());
+        searchService.catchUp();
+
+        assertThat(searchService.search("ZAFIRÓ", null, null, 10).items())
+                .extracting(CourseSearchHit::id).containsExactly(inContent.id());
+    }
+
+    @Test
+    void results_are_filtered_by_status_and_paginated() {
+        create("Topacio uno", CourseStatus.PUBLISHED);
+        create("Topacio dos", CourseStatus.PUBLISHED);
+        create("Topacio borrador", CourseStatus.DRAFT);
+        searchService.catchUp();
+
+        PageResponse<CourseSearchHit> first = searchService.search("topacio", CourseStatus.PUBLISHED, null, 1);
+        PageResponse<CourseSearchHit> second = searchService.search("topacio", CourseStatus.PUBLISHED, first.nextCursor(), 1);
+
+        assertThat(first.items()).hasSize(1);
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+        assertThat(second.items().get(0).id()).isNotEqualTo(first.items().get(0).id());
+        assertThatThrownBy(() -> searchService.search(" ", null, null, 10)).isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    void cursor_resumes_after_the_last_hit_when_the_index_changes_between_pages() {
+        CourseSummaryResponse first = create("Onix Onix", CourseStatus.PUBLISHED);
+        CourseSummaryResponse second = create("Onix basico", CourseStatus.PUBLISHED);
+        searchService.catchUp();
+
+        PageResponse<CourseSearchHit> page = searchService.search("onix", null, null, 1);
+        assertThat(page.items()).extracting(CourseSearchHit::id).containsExactly(first.id());
+
+        // Con un desplazamiento el nuevo primero empujaria al ultimo entregado a la pagina siguiente.
+        create("Onix Onix Onix", CourseStatus.PUBLISHED);
+        searchService.catchUp();
+        PageResponse<CourseSearchHit> next = searchService.search("onix", null, page.nextCursor(), 10);
+
+        assertThat(next.items()).extracting(CourseSearchHit::id).containsExactly(second.id());
+        assertThat(next.nextCursor()).isNull();
+        assertThatThrownBy(() -> searchService.search("onix", null, "no-es-un-cursor", 10))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    void learners_search_the_published_version_until_edits_are_published() {
+        CourseSummaryResponse course = create("Curso Granate", CourseStatus.PUBLISHED);
+        CourseRequest edit = new CourseRequest(course.code(), "Curso Granate y Turmalina", null, CourseStatus.PUBLISHED);
+        courseService.update(course.id(), edit, null);
+        searchService.catchUp();
+
+        assertThat(searchService.search("turmalina", null, null, 10).items())
+                .extracting(CourseSearchHit::id).containsExactly(course.id());
+        assertThat(searchService.searchPublished("turmalina", null, 10).items()).isEmpty();
+        assertThat(searchService.searchPublished("granate", null, 10).items())
+                .extracting(CourseSearchHit::title).containsExactly("Curso Granate");
+
+        versionService.publish(course.id(), null);
+        searchService.catchUp();
+
+        assertThat(searchService.searchPublished("turmalina", null, 10).items())
+                .extracting(CourseSearchHit::id).containsExactly(course.id());
+
+        courseService.update(course.id(), new CourseRequest(course.code(), edit.title(), null, CourseStatus.DRAFT), null);
+        searchService.catchUp();
+
+        assertThat(searchService.searchPublished("granate", null, 10).items()).isEmpty();
+    }
+
+    @Test
+    void index_follows_changes_recorded_without_local_events() {
+        CourseSummaryResponse course = create("Curso Cuarzo", CourseStatus.DRAFT);
+        searchService.catchUp();
+
+        // Asi llega una escritura hecha en otra instancia: la fila y el outbox cambian, pero aqui no hay eventos.
+        transactionTemplate.executeWithoutResult(status -> {
+            CourseEntity entity = courseRepository.findById(course.id()).orElseThrow();
+            entity.setTitle("Curso Ambar");
+            changeLog.record(course.id(), entity.getRevision() + 1, ChangeTarget.COURSE, course.id(), ChangeAction.UPDATED);
+        });
+        searchService.catchUp();
+
+        assertThat(searchService.search("ambar", null, null, 10).items())
+                .extracting(CourseSearchHit::id).containsExactly(course.id());
+        assertThat(searchService.search("cuarzo", null, null, 10).items()).isEmpty();
+    }
+
+    private CourseSummaryResponse create(String title, CourseStatus status) {
+        return courseService.create(
+                new CourseRequest("SEARCH-" + UUID.randomUUID(), title, null, status), null);
+    }
+}
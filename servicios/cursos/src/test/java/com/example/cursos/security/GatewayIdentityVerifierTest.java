@@ -0,0 +1,85 @@
+package com.example.cursos.security;
+
+import com.example.cursos.config.JwtProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayIdentityVerifierTest {
+
+    private static final String JWT_SECRET = "abcdefghijklmnopqrstuvwxyz1234567890abcd";
+    private static final String IDENTITY_SECRET = "identidad-del-gateway-0123456789abcdef";
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void signed_header_authenticates_without_bearer_token() throws Exception {
+        UUID userId = UUID.randomUUID();
+        JwtProperties properties = properties(IDENTITY_SECRET);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                new JwtTokenService(properties), new GatewayIdentityVerifier(properties));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cursos");
+        request.addHeader(GatewayIdentityVerifier.HEADER,
+                sign(IDENTITY_SECRET, userId, "ana@test.com", "INSTRUCTOR", Instant.now().plusSeconds(30)));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(JwtUserPrincipal.class, principal -> {
+            assertThat(principal.getId()).isEqualTo(userId);
+            assertThat(principal.getUsername()).isEqualTo("ana@test.com");
+        });
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_INSTRUCTOR");
+    }
+
+    @Test
+    void rejects_tampered_expired_or_foreign_headers() throws Exception {
+        GatewayIdentityVerifier verifier = new GatewayIdentityVerifier(properties(IDENTITY_SECRET));
+        UUID userId = UUID.randomUUID();
+        String valid = sign(IDENTITY_SECRET, userId, "ana@test.com", "USER", Instant.now().plusSeconds(30));
+        String forged = sign(IDENTITY_SECRET, userId, "ana@test.com", "ADMIN", Instant.now().plusSeconds(30));
+
+        assertThat(verifier.verify(valid)).isPresent();
+        assertThat(verifier.verify(forged.substring(0, forged.indexOf('.')) + valid.substring(valid.indexOf('.'))))
+                .isEmpty();
+        assertThat(verifier.verify(sign(IDENTITY_SECRET, userId, "ana@test.com", "USER", Instant.now().minusSeconds(1))))
+                .isEmpty();
+        assertThat(verifier.verify(sign("otro-secreto-de-al-menos-32-caracteres!", userId, "ana@test.com", "USER",
+                Instant.now().plusSeconds(30)))).isEmpty();
+        assertThat(verifier.verify("sin-firma")).isEmpty();
+        assertThat(new GatewayIdentityVerifier(properties(null)).verify(valid)).isEmpty();
+    }
+
+    private static JwtProperties properties(String identitySecret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(JWT_SECRET);
+        properties.setIdentitySecret(identitySecret);
+        return properties;
+    }
+
+    // Mismo formato que GatewayIdentitySigner en el gateway.
+    private static String sign(String secret, UUID userId, String email, String role, Instant expiresAt)
+            throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String claims = String.join("\n", userId.toString(), email, role, Long.toString(expiresAt.getEpochSecond()));
+        String payload = encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return payload + "." + encoder.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseChangeResponse;
+import com.example.cursos.dto.CourseCloneRequest;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.CourseVersionResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.exception.ResourceNotFoundException;
+import com.example.cursos.repository.ChapterRepository;
+import com.example.cursos.repository.CourseRepository;
+import com.example.cursos.repository.CourseVersionRepository;
+import com.example.cursos.repository.PublishedVersionRef;
+import com.example.cursos.repository.ModuleRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentWritesTest {
+
+    private static final int WRITERS = 4;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private CourseVersionService versionService;
+
+    @Autowired
+    private ChapterRepository chapterRepository;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseChangeLog changeLog;
+
+    @SpyBean
+    private CourseVersionRepository versionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ExecutorService executor;
+    private CourseSummaryResponse course;
+    private ModuleResponse module;
+    private ChapterResponse chapter;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(WRITERS);
+        course = courseService.create(
+                new CourseRequest("CONC-" + UUID.randomUUID(), "Concurrente", null, CourseStatus.DRAFT), null);
+        module = moduleService.create(course.id(), new ModuleRequest("Modulo", null, null));
+        chapter = chapterService.create(course.id(), module.id(), new ChapterRequest("Capitulo", "texto", 1, 10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void simultaneous_publications_get_consecutive_versions() throws Exception {
+        // Ya publicado: publish no actualiza la fila del curso y solo el bloqueo de freeze ordena las versiones.
+        versionService.publish(course.id(), null);
+        List<CourseVersionResponse> versions = runTogether(() -> versionService.publish(course.id(), null));
+
+        assertThat(versions).extracting(CourseVersionResponse::version).containsExactlyInAnyOrder(2, 3, 4, 5);
+        assertThat(versionService.freezeIfUnversioned(course.id())).isFalse();
+    }
+
+    @Test
+    void simultaneous_duration_edits_keep_totals_consistent() throws Exception {
+        AtomicInteger minutes = new AtomicInteger(10);
+        runTogether(() -> chapterService.update(course.id(), module.id(), chapter.id(),
+                new ChapterRequest("Capitulo", "texto", 1, minutes.addAndGet(10))));
+
+        int finalMinutes = chapterRepository.findById(chapter.id()).orElseThrow().getDurationMinutes();
+        assertThat(moduleRepository.findById(module.id()).orElseThrow().getTotalMinutes()).isEqualTo(finalMinutes);
+        assertThat(courseRepository.findById(course.id()).orElseThrow())
+                .extracting("chapterCount", "totalMinutes").containsExactly(1, finalMinutes);
+    }
+
+    @Test
+    void module_delete_racing_chapter_inserts_leaves_course_totals_at_zero() throws Exception {
+        AtomicInteger order = new AtomicInteger(1);
+        List<Callable<Object>> writers = new ArrayList<>();
+        writers.add(() -> {
+            moduleService.delete(course.id(), module.id());
+            return null;
+        });
+        for (int i = 1; i < WRITERS; i++) {
+            writers.add(() -> chapterService.create(course.id(), module.id(),
+                    new ChapterRequest("Otro", null, order.incrementAndGet(), 5)));
+        }
+        runEach(writers);
+
+        assertThat(courseRepository.findById(course.id()).orElseThrow())
+                .extracting("moduleCount", "chapterCount", "totalMinutes").containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void chapter_edits_take_the_module_lock_before_the_chapter_lock() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            moduleService.lockModule(course.id(), module.id());
+            locked.countDown();
+            await(release);
+        }));
+        await(locked);
+        Future<ChapterResponse> edit = executor.submit(() -> chapterService.update(course.id(), module.id(), chapter.id(),
+                new ChapterRequest("Capitulo", "texto", 1, 20)));
+        Thread.sleep(300);
+
+        // Lo que hace el borrado del modulo tras bloquearlo: si la edicion ya tuviera el capitulo, se bloquearian.
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(chapterRepository.findForUpdate(module.id(), chapter.id())).isPresent());
+        release.countDown();
+        holder.get(30, TimeUnit.SECONDS);
+
+        assertThat(edit.get(30, TimeUnit.SECONDS).durationMinutes()).isEqualTo(20);
+    }
+
+    @Test
+    void clone_racing_chapter_inserts_copies_totals_that_match_its_rows() throws Exception {
+        AtomicInteger order = new AtomicInteger(1);
+        List<Callable<Object>> writers = new ArrayList<>();
+        writers.add(() -> courseService.clone(course.id(), new CourseCloneRequest("CONC-" + UUID.randomUUID(), null), null));
+        for (int i = 1; i < WRITERS; i++) {
+            writers.add(() -> chapterService.create(course.id(), module.id(),
+                    new ChapterRequest("Otro", null, order.incrementAndGet(), 5)));
+        }
+        List<Object> results = runEach(writers);
+
+        CourseSummaryResponse copy = (CourseSummaryResponse) results.get(0);
+        List<ChapterResponse> chapters = courseService.findById(copy.id()).modules().get(0).chapters();
+        assertThat(copy).extracting("moduleCount", "chapterCount", "totalMinutes")
+                .containsExactly(1, chapters.size(), chapters.stream().mapToInt(ChapterResponse::durationMinutes).sum());
+    }
+
+    @Test
+    void an_open_transaction_with_recorded_changes_does_not_block_other_writers() throws Exception {
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<CourseSummaryResponse> slow = executor.submit(() -> transactionTemplate.execute(status -> {
+            CourseSummaryResponse created = courseService.create(
+                    new CourseRequest("CONC-" + UUID.randomUUID(), "Lenta", null, CourseStatus.PUBLISHED), null);
+            recorded.countDown();
+            await(release);
+            return created;
+        }));
+        await(recorded);
+
+        long before = changeLog.latestSequence();
+        CourseSummaryResponse fast = executor.submit(() -> courseService.create(
+                new CourseRequest("CONC-" + UUID.randomUUID(), "Rapida", null, CourseStatus.DRAFT), null))
+                .get(10, TimeUnit.SECONDS);
+        release.countDown();
+        CourseSummaryResponse late = slow.get(30, TimeUnit.SECONDS);
+
+        // La secuencia sigue el orden de commit, no el orden en que cada transaccion registro el cambio.
+        List<UUID> committed = changeLog.findAfter(before, 10).items().stream()
+                .map(CourseChangeResponse::courseId).distinct().toList();
+        assertThat(committed).containsExactly(fast.id(), late.id());
+    }
+
+    @Test
+    void pointer_read_racing_an_unpublish_does_not_restore_the_old_version() throws Exception {
+        versionService.publish(course.id(), null);
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // El espia de un repositorio no puede llamar al metodo real; la consulta por lotes da el mismo puntero.
+        doAnswer(invocation -> {
+            Optional<UUID> pointer = versionRepository.findCurrentIds(List.of(course.id()), CourseStatus.PUBLISHED)
+                    .stream().map(PublishedVersionRef::versionId).findFirst();
+            read.countDown();
+            await(release);
+            return pointer;
+        }).when(versionRepository).findCurrentId(eq(course.id()), any());
+
+        Future<PublishedCourse> reader = executor.submit(() -> versionService.current(course.id()));
+        await(read);
+        Future<CourseSummaryResponse> unpublish = executor.submit(() -> courseService.update(course.id(),
+                new CourseRequest(course.code(), course.title(), null, CourseStatus.DRAFT), null));
+        // Da tiempo a que el commit y su desalojo lleguen mientras la lectura todavia tiene el puntero viejo.
+        Thread.sleep(500);
+        release.countDown();
+        reader.get(30, TimeUnit.SECONDS);
+        unpublish.get(30, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> versionService.current(course.id())).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void batch_pointer_read_racing_an_unpublish_does_not_restore_the_old_version() throws Exception {
+        versionService.publish(course.id(), null);
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<PublishedVersionRef> pointers = versionRepository.findCurrentId(course.id(), CourseStatus.PUBLISHED)
+                    .map(versionId -> List.of(new PublishedVersionRef(course.id(), versionId)))
+                    .orElse(List.of());
+            read.countDown();
+            await(release);
+            return pointers;
+        }).when(versionRepository).findCurrentIds(eq(List.of(course.id())), any());
+
+        Future<List<PublishedCourse>> reader = executor.submit(() -> versionService.current(List.of(course.id())));
+        await(read);
+        Future<CourseSummaryResponse> unpublish = executor.submit(() -> courseService.update(course.id(),
+                new CourseRequest(course.code(), course.title(), null, CourseStatus.DRAFT), null));
+        Thread.sleep(500);
+        release.countDown();
+        reader.get(30, TimeUnit.SECONDS);
+        unpublish.get(30, TimeUnit.SECONDS);
+
+        assertThat(versionService.current(List.of(course.id()))).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // Arranca todas las tareas a la vez y propaga el primer error.
+    private <T> List<T> runTogether(Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    // Igual, pero con tareas distintas; los 404 de las que llegan tarde al modulo borrado son esperables.
+    private List<Object> runEach(List<Callable<Object>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (Callable<Object> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return task.call();
+                } catch (ResourceNotFoundException ex) {
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseListQuery;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSort;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CourseStatus;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseAggregatesTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Test
+    void totals_follow_module_and_chapter_writes() {
+        String title = "Totales " + UUID.randomUUID();
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("AGG-" + UUID.randomUUID(), title, null, CourseStatus.DRAFT), null);
+        ModuleResponse module = moduleService.create(course.id(), new ModuleRequest("Modulo", null, null));
+        ChapterResponse first = chapterService.create(course.id(), module.id(), new ChapterRequest("A", null, 1, 10));
+        ChapterResponse second = chapterService.create(course.id(), module.id(), new ChapterRequest("B", null, 2, 5));
+        chapterService.create(course.id(), module.id(), new ChapterRequest("C", null, 3, null));
+
+        chapterService.update(course.id(), module.id(), first.id(), new ChapterRequest("A", null, 1, 25));
+        chapterService.delete(course.id(), module.id(), second.id());
+
+        assertThat(summary(title)).extracting(
+                        CourseSummaryResponse::moduleCount, CourseSummaryResponse::chapterCount, CourseSummaryResponse::totalMinutes)
+                .containsExactly(1, 2, 25);
+        assertThat(moduleService.list(course.id()).get(0))
+                .extracting("chapterCount", "totalMinutes")
+                .containsExactly(2, 25);
+
+        moduleService.delete(course.id(), module.id());
+
+        assertThat(summary(title)).extracting(
+                        CourseSummaryResponse::moduleCount, CourseSummaryResponse::chapterCount, CourseSummaryResponse::totalMinutes)
+                .containsExactly(0, 0, 0);
+    }
+
+    private CourseSummaryResponse summary(String title) {
+        return courseService.findPage(new CourseListQuery(null, title, CourseSort.TITLE, Sort.Direction.ASC, null, 1))
+                .items().get(0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.cursos.service;
+
+import com.example.cursos.config.CacheConfig;
+import com.example.cursos.dto.CourseListQuery;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSort;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.entity.CourseStatus;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseCatalogCacheTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private CourseSnapshotService snapshotService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void course_tree_is_cached_and_evicted_after_module_write() {
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("CACHE-" + UUID.randomUUID(), "Curso cache", null, CourseStatus.DRAFT), null);
+
+        assertThat(courseService.findById(course.id()).modules()).isEmpty();
+        assertThat(cacheManager.getCache(CacheConfig.COURSE_DETAILS).get(course.id())).isNotNull();
+
+        moduleService.create(course.id(), new ModuleRequest("Modulo 1", null, null));
+
+        assertThat(cacheManager.getCache(CacheConfig.COURSE_DETAILS).get(course.id())).isNull();
+        assertThat(courseService.findById(course.id()).modules()).hasSize(1);
+    }
+
+    @Test
+    void catalog_list_is_evicted_after_course_update() {
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("CACHE-" + UUID.randomUUID(), "Antes", null, CourseStatus.DRAFT), null);
+        assertThat(courseService.findPage(firstPage()).items()).extracting(CourseSummaryResponse::title).contains("Antes");
+
+        courseService.update(course.id(), new CourseRequest(course.code(), "Despues", null, CourseStatus.PUBLISHED), null);
+
+        assertThat(courseService.findPage(firstPage()).items()).extracting(CourseSummaryResponse::title)
+                .contains("Despues")
+                .doesNotContain("Antes");
+    }
+
+    @Test
+    void snapshot_is_only_marked_stale_on_commit_and_rebuilt_on_next_read() {
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("CACHE-" + UUID.randomUUID(), "Snapshot", null, CourseStatus.DRAFT), null);
+        CourseSnapshot first = snapshotService.get(course.id());
+
+        moduleService.create(course.id(), new ModuleRequest("Modulo 1", null, null));
+
+        CourseSnapshot marker = cacheManager.getCache(CacheConfig.COURSE_SNAPSHOTS).get(course.id(), CourseSnapshot.class);
+        assertThat(marker.isStale()).isTrue();
+        assertThat(marker.revision()).isGreaterThan(first.revision());
+        CourseSnapshot rebuilt = snapshotService.get(course.id());
+        assertThat(rebuilt.isStale()).isFalse();
+        assertThat(rebuilt.revision()).isEqualTo(marker.revision());
+        assertThat(new String(rebuilt.json())).contains("Modulo 1");
+    }
+
+    private CourseListQuery firstPage() {
+        return new CourseListQuery(null, null, CourseSort.TITLE, Sort.Direction.ASC, null, CourseService.MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseCloneRequest;
+import com.example.cursos.dto.CourseOutlineResponse;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CompressedTextConverter;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.exception.BusinessRuleException;
+import com.example.cursos.exception.ResourceNotFoundException;
+import com.example.cursos.repository.ChapterRepository;
+import com.example.cursos.repository.ModuleRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseCloneTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private ChapterRepository chapterRepository;
+
+    @Test
+    void clone_copies_the_whole_tree_as_a_draft() {
+        CourseSummaryResponse source = courseService.create(
+                new CourseRequest("CLN-" + UUID.randomUUID(), "Original", "Descripcion", CourseStatus.PUBLISHED), null);
+        ModuleResponse intro = moduleService.create(source.id(), new ModuleRequest("Intro", null, null));
+        ModuleResponse advanced = moduleService.create(source.id(), new ModuleRequest("Avanzado", "Resumen", null));
+        chapterService.create(source.id(), intro.id(), new ChapterRequest("A", "contenido a", 1, 10));
+        chapterService.create(source.id(), advanced.id(), new ChapterRequest("B", "contenido b", 1, 5));
+        ChapterResponse last = chapterService.create(source.id(), advanced.id(), new ChapterRequest("C", null, 2, null));
+
+        CourseSummaryResponse copy = courseService.clone(
+                source.id(), new CourseCloneRequest("CLN-" + UUID.randomUUID(), "Cohorte 2"), null);
+
+        assertThat(copy.status()).isEqualTo(CourseStatus.DRAFT);
+        assertThat(copy.title()).isEqualTo("Cohorte 2");
+        assertThat(copy).extracting("moduleCount", "chapterCount", "totalMinutes").containsExactly(2, 3, 15);
+        CourseOutlineResponse outline = courseService.findOutline(copy.id());
+        assertThat(outline.modules()).extracting("title").containsExactly("Intro", "Avanzado");
+        assertThat(outline.modules().get(1).chapters()).extracting("title").containsExactly("B", "C");
+        assertThat(outline.modules().get(1).chapters()).extracting("id").doesNotContain(last.id());
+        UUID copiedModule = outline.modules().get(1).id();
+        UUID copiedChapter = outline.modules().get(1).chapters().get(0).id();
+        byte[] copiedContent = chapterService.loadContent(copy.id(), copiedModule, copiedChapter, updatedAt -> false)
+                .compressed();
+        assertThat(CompressedTextConverter.decompress(copiedContent)).isEqualTo("contenido b");
+    }
+
+    @Test
+    void clone_rejects_an_existing_code() {
+        CourseSummaryResponse source = courseService.create(
+                new CourseRequest("CLN-" + UUID.randomUUID(), "Original", null, CourseStatus.DRAFT), null);
+
+        assertThatThrownBy(() -> courseService.clone(source.id(), new CourseCloneRequest(source.code(), null), null))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    void delete_removes_modules_and_chapters_in_the_database() {
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("DEL-" + UUID.randomUUID(), "Borrar", null, CourseStatus.DRAFT), null);
+        ModuleResponse module = moduleService.create(course.id(), new ModuleRequest("Modulo", null, null));
+        ChapterResponse chapter = chapterService.create(course.id(), module.id(), new ChapterRequest("A", "x", 1, 1));
+
+        courseService.delete(course.id());
+
+        assertThat(moduleRepository.existsById(module.id())).isFalse();
+        assertThat(chapterRepository.existsById(chapter.id())).isFalse();
+        assertThatThrownBy(() -> courseService.delete(course.id())).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseListQuery;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSort;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.dto.ModuleSummaryResponse;
+import com.example.cursos.dto.PageResponse;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.exception.BusinessRuleException;
+import com.example.cursos.exception.ResourceNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseListingTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Test
+    void keyset_pages_cover_filtered_courses_in_order_without_duplicates() {
+        String prefix = "Pag" + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 7; i++) {
+            CourseStatus status = i % 3 == 0 ? CourseStatus.DRAFT : CourseStatus.PUBLISHED;
+            courseService.create(new CourseRequest(prefix + "-" + i, prefix + " curso " + i, null, status), null);
+        }
+
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageResponse<CourseSummaryResponse> page = courseService.findPage(new CourseListQuery(
+                    CourseStatus.PUBLISHED, prefix.toLowerCase(), CourseSort.TITLE, Sort.Direction.DESC, cursor, 2));
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().forEach(item -> titles.add(item.title()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(titles).containsExactly(
+                prefix + " curso 5",
+                prefix + " curso 4",
+                prefix + " curso 2",
+                prefix + " curso 1"
+        );
+    }
+
+    @Test
+    void cursor_from_another_sort_is_rejected() {
+        String prefix = "Cur" + UUID.randomUUID().toString().substring(0, 8);
+        courseService.create(new CourseRequest(prefix + "-a", prefix + " a", null, CourseStatus.PUBLISHED), null);
+        courseService.create(new CourseRequest(prefix + "-b", prefix + " b", null, CourseStatus.PUBLISHED), null);
+        String cursor = courseService.findPage(new CourseListQuery(
+                null, prefix, CourseSort.TITLE, Sort.Direction.ASC, null, 1)).nextCursor();
+
+        assertThatThrownBy(() -> courseService.findPage(new CourseListQuery(
+                null, prefix, CourseSort.CREATED_AT, Sort.Direction.ASC, cursor, 1)))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    void module_and_chapter_listings_are_scoped_to_their_parent() {
+        CourseSummaryResponse course = courseService.create(
+                new CourseRequest("LST-" + UUID.randomUUID(), "Listados", null, CourseStatus.DRAFT), null);
+        CourseSummaryResponse other = courseService.create(
+                new CourseRequest("LST-" + UUID.randomUUID(), "Otro", null, CourseStatus.DRAFT), null);
+        ModuleResponse second = moduleService.create(course.id(), new ModuleRequest("Segundo", null, 2));
+        ModuleResponse first = moduleService.create(course.id(), new ModuleRequest("Primero", null, 1));
+        chapterService.create(course.id(), first.id(), new ChapterRequest("B", "contenido b", 2, 10));
+        chapterService.create(course.id(), first.id(), new ChapterRequest("A", "contenido a", 1, 5));
+
+        assertThat(moduleService.list(course.id()))
+                .extracting(ModuleSummaryResponse::id)
+                .containsExactly(first.id(), second.id());
+        assertThat(chapterService.list(course.id(), first.id()))
+                .extracting(ChapterResponse::title)
+                .containsExactly("A", "B");
+        assertThat(moduleService.list(other.id())).isEmpty();
+        assertThatThrownBy(() -> chapterService.list(other.id(), first.id()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> moduleService.list(UUID.randomUUID()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
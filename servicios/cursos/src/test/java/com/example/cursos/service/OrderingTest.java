@@ -0,0 +1,74 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.ChapterResponse;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.dto.ModuleSummaryResponse;
+import com.example.cursos.dto.ReorderMove;
+import com.example.cursos.entity.CourseStatus;
+import com.example.cursos.exception.BusinessRuleException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderingTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Test
+    void appended_modules_leave_gaps_and_a_move_updates_only_the_moved_row() {
+        CourseSummaryResponse course = createCourse();
+        ModuleResponse first = moduleService.create(course.id(), new ModuleRequest("Uno", null, null));
+        ModuleResponse second = moduleService.create(course.id(), new ModuleRequest("Dos", null, null));
+        ModuleResponse third = moduleService.create(course.id(), new ModuleRequest("Tres", null, null));
+        assertThat(List.of(first.orderIndex(), second.orderIndex(), third.orderIndex())).containsExactly(1024, 2048, 3072);
+
+        List<ModuleSummaryResponse> reordered = moduleService.reorder(course.id(), List.of(
+                new ReorderMove(third.id(), null),
+                new ReorderMove(first.id(), second.id())
+        ));
+
+        assertThat(reordered).extracting(ModuleSummaryResponse::id).containsExactly(third.id(), second.id(), first.id());
+        assertThat(reordered).extracting(ModuleSummaryResponse::orderIndex).containsExactly(511, 2048, 3072);
+    }
+
+    @Test
+    void moving_into_a_full_gap_rebalances_siblings() {
+        CourseSummaryResponse course = createCourse();
+        ModuleResponse module = moduleService.create(course.id(), new ModuleRequest("Modulo", null, null));
+        ChapterResponse a = chapterService.create(course.id(), module.id(), new ChapterRequest("A", null, 0, null));
+        ChapterResponse b = chapterService.create(course.id(), module.id(), new ChapterRequest("B", null, 1, null));
+        ChapterResponse c = chapterService.create(course.id(), module.id(), new ChapterRequest("C", null, 2, null));
+
+        List<ChapterResponse> reordered = chapterService.reorder(course.id(), module.id(),
+                List.of(new ReorderMove(c.id(), a.id())));
+
+        assertThat(reordered).extracting(ChapterResponse::id).containsExactly(a.id(), c.id(), b.id());
+        assertThat(reordered).extracting(ChapterResponse::orderIndex).containsExactly(1024, 1536, 2048);
+        assertThatThrownBy(() -> chapterService.reorder(course.id(), module.id(), List.of(new ReorderMove(a.id(), a.id()))))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    private CourseSummaryResponse createCourse() {
+        return courseService.create(
+                new CourseRequest("ORD-" + UUID.randomUUID(), "Orden", null, CourseStatus.DRAFT), null);
+    }
+}
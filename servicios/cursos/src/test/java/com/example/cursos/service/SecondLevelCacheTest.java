@@ -0,0 +1,78 @@
+package com.example.cursos.service;
+
+import com.example.cursos.dto.ChapterRequest;
+import com.example.cursos.dto.CourseRequest;
+import com.example.cursos.dto.CourseSummaryResponse;
+import com.example.cursos.dto.ModuleRequest;
+import com.example.cursos.dto.ModuleResponse;
+import com.example.cursos.entity.CourseStatus;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ModuleService moduleService;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private CourseSummaryResponse course;
+    private ModuleResponse module;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        course = courseService.create(
+                new CourseRequest("L2-" + UUID.randomUUID(), "Cache", null, CourseStatus.DRAFT), null);
+        module = moduleService.create(course.id(), new ModuleRequest("Modulo", null, null));
+    }
+
+    @Test
+    void repeated_module_lookups_do_not_hit_the_database() {
+        moduleService.loadModule(course.id(), module.id());
+        statistics.clear();
+
+        moduleService.loadModule(course.id(), module.id());
+        moduleService.loadModule(course.id(), module.id());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cached_entities_and_queries_reflect_writes() {
+        moduleService.update(course.id(), module.id(), new ModuleRequest("Renombrado", null, null));
+        assertThat(moduleService.loadModule(course.id(), module.id()).getTitle()).isEqualTo("Renombrado");
+
+        assertThat(chapterService.list(course.id(), module.id())).isEmpty();
+        statistics.clear();
+        assertThat(chapterService.list(course.id(), module.id())).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        chapterService.create(course.id(), module.id(), new ChapterRequest("Capitulo", "x", 1, 5));
+        assertThat(chapterService.list(course.id(), module.id())).hasSize(1);
+    }
+}
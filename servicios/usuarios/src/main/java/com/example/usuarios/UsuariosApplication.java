@@ -1,12 +1,13 @@
 package com.example.usuarios;
 
 import com.example.usuarios.config.JwtProperties;
+import com.example.usuarios.config.PasswordHashingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PasswordHashingProperties.class})
 public class UsuariosApplication {
 
     public static void main(String[] args) {
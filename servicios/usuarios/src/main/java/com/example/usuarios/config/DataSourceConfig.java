@@ -0,0 +1,52 @@
+package com.example.usuarios.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// Solo se activa con usuarios.datasource.replica.url; sin ella Spring Boot configura el datasource unico de siempre.
+// Igual que en cursos a proposito: cada servicio se construye por separado y no hay un modulo comun.
+@Configuration
+@ConditionalOnProperty(prefix = "usuarios.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceConfig {
+
+    // spring.datasource.hikari.* se enlaza igual que con el datasource autoconfigurado.
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("usuarios-primary");
+        return primary;
+    }
+
+    @Bean
+    @ConfigurationProperties("usuarios.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(DataSourceProperties properties, ReplicaDataSourceProperties replicaProperties) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("usuarios-replica");
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(replicaProperties.getUsername() != null
+                ? replicaProperties.getUsername() : properties.determineUsername());
+        replica.setPassword(replicaProperties.getPassword() != null
+                ? replicaProperties.getPassword() : properties.determinePassword());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource,
+                          HikariDataSource replicaDataSource,
+                          ReplicaDataSourceProperties replicaProperties) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaProperties.getMaxLag(), replicaProperties.getLagCheckInterval(), replicaProperties.getLagQuery()));
+    }
+}
@@ -6,8 +6,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class JwtProperties {
 
     private String secret;
+    // Mismo secreto que jwt.identity-secret del gateway; vacio ignora X-User-Context.
+    private String identitySecret;
     private long accessTokenValiditySeconds;
     private long refreshTokenValiditySeconds;
+    private long verifiedCacheSize = 10_000;
 
     public String getSecret() {
         return secret;
@@ -32,4 +35,20 @@ public class JwtProperties {
     public void setRefreshTokenValiditySeconds(long refreshTokenValiditySeconds) {
         this.refreshTokenValiditySeconds = refreshTokenValiditySeconds;
     }
+
+    public long getVerifiedCacheSize() {
+        return verifiedCacheSize;
+    }
+
+    public void setVerifiedCacheSize(long verifiedCacheSize) {
+        this.verifiedCacheSize = verifiedCacheSize;
+    }
+
+    public String getIdentitySecret() {
+        return identitySecret;
+    }
+
+    public void setIdentitySecret(String identitySecret) {
+        this.identitySecret = identitySecret;
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.usuarios.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    // BCrypt es CPU puro: mas hilos que nucleos solo alarga la cola.
+    private int threads = Runtime.getRuntime().availableProcessors();
+    // Logins en espera antes de responder 503.
+    private int queueCapacity = 64;
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+}
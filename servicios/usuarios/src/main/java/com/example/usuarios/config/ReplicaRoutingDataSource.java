@@ -0,0 +1,86 @@
+package com.example.usuarios.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Las transacciones de solo lectura van a la replica mientras su retraso este dentro del limite;
+// si la replica se atrasa o no responde, se usa el primario hasta la siguiente comprobacion.
+// Debe envolverse en un LazyConnectionDataSourceProxy para que la conexion se pida con la transaccion ya marcada.
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final long checkIntervalNanos;
+    private final String lagQuery;
+    private final AtomicLong nextCheck;
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    Duration maxLag,
+                                    Duration checkInterval,
+                                    String lagQuery) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.checkIntervalNanos = checkInterval.toNanos();
+        this.lagQuery = lagQuery;
+        this.nextCheck = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && useReplica()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException ex) {
+                replicaUsable = false;
+                log.warn("Replica no disponible, se usa el primario: {}", ex.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Solo un hilo mide el retraso en cada intervalo; los demas usan el ultimo resultado.
+    boolean useReplica() {
+        long now = System.nanoTime();
+        long due = nextCheck.get();
+        if (now - due >= 0 && nextCheck.compareAndSet(due, now + checkIntervalNanos)) {
+            replicaUsable = checkLag();
+        }
+        return replicaUsable;
+    }
+
+    private boolean checkLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            double lagSeconds = rs.next() ? rs.getDouble(1) : 0;
+            if (lagSeconds * 1000 > maxLag.toMillis()) {
+                log.warn("Replica con {} s de retraso, se usa el primario", lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException ex) {
+            log.warn("No se pudo medir el retraso de la replica: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
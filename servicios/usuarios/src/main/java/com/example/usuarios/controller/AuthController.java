@@ -7,6 +7,7 @@ import com.example.usuarios.dto.UserResponse;
 import com.example.usuarios.service.AuthService;
 import com.example.usuarios.service.UserService;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -27,7 +28,7 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public AuthResponse login(@Valid @RequestBody AuthRequest request) {
+    public CompletableFuture<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
         return authService.login(request);
     }
 
@@ -2,22 +2,34 @@ package com.example.usuarios.controller;
 
 import com.example.usuarios.dto.CourseProgressSummaryResponse;
 import com.example.usuarios.dto.UserProgressSummaryResponse;
+import com.example.usuarios.service.CourseProgressExportService;
 import com.example.usuarios.service.EnrollmentService;
+import com.example.usuarios.service.ReportFormat;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/reportes")
 public class ReportController {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final EnrollmentService enrollmentService;
+    private final CourseProgressExportService exportService;
 
-    public ReportController(EnrollmentService enrollmentService) {
+    public ReportController(EnrollmentService enrollmentService, CourseProgressExportService exportService) {
         this.enrollmentService = enrollmentService;
+        this.exportService = exportService;
     }
 
     @GetMapping("/usuarios/{userId}")
@@ -28,7 +40,23 @@ public class ReportController {
 
     @GetMapping("/cursos/{courseId}")
     @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
-    public CourseProgressSummaryResponse byCourse(@PathVariable UUID courseId) {
-        return enrollmentService.courseProgress(courseId);
+    public CourseProgressSummaryResponse byCourse(@PathVariable UUID courseId,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        return enrollmentService.courseProgress(courseId, cursor, limit);
+    }
+
+    // Exportacion completa en streaming (formato=csv|ndjson) para cohortes grandes.
+    @GetMapping("/cursos/{courseId}/exportar")
+    @PreAuthorize("hasAnyRole('ADMIN','INSTRUCTOR')")
+    public ResponseEntity<StreamingResponseBody> exportCourse(@PathVariable UUID courseId,
+                                                              @RequestParam(defaultValue = "csv") String formato) {
+        ReportFormat format = ReportFormat.from(formato);
+        String extension = format == ReportFormat.CSV ? "csv" : "ndjson";
+        return ResponseEntity.ok()
+                .contentType(format == ReportFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"progreso-" + courseId + "." + extension + "\"")
+                .body(out -> exportService.export(courseId, format, out));
     }
 }
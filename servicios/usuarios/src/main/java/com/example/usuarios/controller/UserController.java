@@ -1,13 +1,17 @@
 package com.example.usuarios.controller;
 
+import com.example.usuarios.dto.PageResponse;
 import com.example.usuarios.dto.RegisterUserRequest;
 import com.example.usuarios.dto.UpdateUserRequest;
+import com.example.usuarios.dto.UserListQuery;
 import com.example.usuarios.dto.UserResponse;
+import com.example.usuarios.entity.AuthProvider;
+import com.example.usuarios.entity.Role;
 import com.example.usuarios.service.UserService;
 import jakarta.validation.Valid;
-import java.util.List;
 import java.util.UUID;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -29,8 +34,14 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public List<UserResponse> list() {
-        return userService.findAll();
+    public PageResponse<UserResponse> list(@RequestParam(required = false) Role role,
+                                           @RequestParam(required = false) AuthProvider provider,
+                                           @RequestParam(required = false) Boolean enabled,
+                                           @RequestParam(required = false) String q,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "50") int limit) {
+        String search = StringUtils.hasText(q) ? q.trim() : null;
+        return userService.findPage(new UserListQuery(role, provider, enabled, search, cursor, limit));
     }
 
     @GetMapping("/{id}")
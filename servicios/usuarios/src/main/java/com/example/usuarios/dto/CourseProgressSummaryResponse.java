@@ -7,6 +7,7 @@ import java.util.UUID;
 public record CourseProgressSummaryResponse(
         UUID courseId,
         Map<String, Long> totalsByStatus,
-        List<CourseParticipantProgressResponse> participants
+        List<CourseParticipantProgressResponse> participants,
+        String nextCursor
 ) {
 }
@@ -0,0 +1,9 @@
+package com.example.usuarios.dto;
+
+import java.util.List;
+
+public record PageResponse<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
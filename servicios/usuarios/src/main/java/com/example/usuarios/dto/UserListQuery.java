@@ -0,0 +1,14 @@
+package com.example.usuarios.dto;
+
+import com.example.usuarios.entity.AuthProvider;
+import com.example.usuarios.entity.Role;
+
+public record UserListQuery(
+        Role role,
+        AuthProvider provider,
+        Boolean enabled,
+        String search,
+        String cursor,
+        int limit
+) {
+}
@@ -1,6 +1,5 @@
 package com.example.usuarios.mapper;
 
-import com.example.usuarios.dto.CourseParticipantProgressResponse;
 import com.example.usuarios.dto.EnrollmentResponse;
 import com.example.usuarios.dto.ModuleProgressResponse;
 import com.example.usuarios.entity.CourseEnrollmentEntity;
@@ -39,16 +38,4 @@ public final class EnrollmentMapper {
                 entity.getLastUpdated()
         );
     }
-
-    public static CourseParticipantProgressResponse toParticipantResponse(CourseEnrollmentEntity entity) {
-        return new CourseParticipantProgressResponse(
-                entity.getId(),
-                entity.getUser().getId(),
-                entity.getUser().getEmail(),
-                entity.getUser().getFullName(),
-                entity.getStatus(),
-                entity.getEnrolledAt(),
-                entity.getLastStatusChange()
-        );
-    }
 }
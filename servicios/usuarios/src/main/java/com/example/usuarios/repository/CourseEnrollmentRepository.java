@@ -1,11 +1,16 @@
 package com.example.usuarios.repository;
 
+import com.example.usuarios.dto.CourseParticipantProgressResponse;
 import com.example.usuarios.entity.CourseEnrollmentEntity;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollmentEntity, UUID> {
 
@@ -15,6 +20,33 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
     @EntityGraph(attributePaths = {"modules"})
     List<CourseEnrollmentEntity> findByUser_Id(UUID userId);
 
-    @EntityGraph(attributePaths = {"modules", "user"})
-    List<CourseEnrollmentEntity> findByCourseId(UUID courseId);
+    @Query("""
+            select new com.example.usuarios.repository.EnrollmentStatusTotal(e.status, count(e))
+            from CourseEnrollmentEntity e
+            where e.courseId = :courseId
+            group by e.status
+            """)
+    List<EnrollmentStatusTotal> countByStatus(@Param("courseId") UUID courseId);
+
+    @Query("""
+            select new com.example.usuarios.dto.CourseParticipantProgressResponse(
+                e.id, u.id, u.email, u.fullName, e.status, e.enrolledAt, e.lastStatusChange)
+            from CourseEnrollmentEntity e join e.user u
+            where e.courseId = :courseId
+            order by e.enrolledAt, e.id
+            """)
+    List<CourseParticipantProgressResponse> findParticipants(@Param("courseId") UUID courseId, Pageable pageable);
+
+    @Query("""
+            select new com.example.usuarios.dto.CourseParticipantProgressResponse(
+                e.id, u.id, u.email, u.fullName, e.status, e.enrolledAt, e.lastStatusChange)
+            from CourseEnrollmentEntity e join e.user u
+            where e.courseId = :courseId
+              and (e.enrolledAt > :enrolledAt or (e.enrolledAt = :enrolledAt and e.id > :id))
+            order by e.enrolledAt, e.id
+            """)
+    List<CourseParticipantProgressResponse> findParticipantsAfter(@Param("courseId") UUID courseId,
+                                                                  @Param("enrolledAt") Instant enrolledAt,
+                                                                  @Param("id") UUID id,
+                                                                  Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package com.example.usuarios.repository;
+
+import com.example.usuarios.entity.EnrollmentStatus;
+
+public record EnrollmentStatusTotal(
+        EnrollmentStatus status,
+        long total
+) {
+}
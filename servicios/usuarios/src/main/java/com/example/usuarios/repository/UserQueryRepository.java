@@ -0,0 +1,16 @@
+package com.example.usuarios.repository;
+
+import com.example.usuarios.entity.AuthProvider;
+import com.example.usuarios.entity.Role;
+import com.example.usuarios.entity.UserEntity;
+import java.util.List;
+
+public interface UserQueryRepository {
+
+    List<UserEntity> findPage(Role role,
+                              AuthProvider provider,
+                              Boolean enabled,
+                              String search,
+                              String afterEmail,
+                              int limit);
+}
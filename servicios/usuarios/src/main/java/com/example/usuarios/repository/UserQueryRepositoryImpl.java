@@ -0,0 +1,72 @@
+package com.example.usuarios.repository;
+
+import com.example.usuarios.entity.AuthProvider;
+import com.example.usuarios.entity.Role;
+import com.example.usuarios.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.util.StringUtils;
+
+class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Orden por email: es unico, asi que basta como clave del keyset y usa el indice del UNIQUE.
+    @Override
+    public List<UserEntity> findPage(Role role,
+                                     AuthProvider provider,
+                                     Boolean enabled,
+                                     String search,
+                                     String afterEmail,
+                                     int limit) {
+        List<String> conditions = new ArrayList<>();
+        if (role != null) {
+            conditions.add("u.role = :role");
+        }
+        if (provider != null) {
+            conditions.add("u.provider = :provider");
+        }
+        if (enabled != null) {
+            conditions.add("u.enabled = :enabled");
+        }
+        if (StringUtils.hasText(search)) {
+            conditions.add("(lower(u.email) like :search escape '\\' or lower(u.fullName) like :search escape '\\')");
+        }
+        if (afterEmail != null) {
+            conditions.add("u.email > :afterEmail");
+        }
+
+        StringBuilder jpql = new StringBuilder("select u from UserEntity u");
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(" order by u.email");
+
+        TypedQuery<UserEntity> query = entityManager.createQuery(jpql.toString(), UserEntity.class);
+        if (role != null) {
+            query.setParameter("role", role);
+        }
+        if (provider != null) {
+            query.setParameter("provider", provider);
+        }
+        if (enabled != null) {
+            query.setParameter("enabled", enabled);
+        }
+        if (StringUtils.hasText(search)) {
+            query.setParameter("search", escapeLike(search.toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (afterEmail != null) {
+            query.setParameter("afterEmail", afterEmail);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
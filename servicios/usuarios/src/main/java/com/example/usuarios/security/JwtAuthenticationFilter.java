@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,22 +17,22 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final GatewayIdentityVerifier identityVerifier;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, GatewayIdentityVerifier identityVerifier) {
         this.tokenProvider = tokenProvider;
+        this.identityVerifier = identityVerifier;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String bearer = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
-            String token = bearer.substring(7);
-            if (tokenProvider.validate(token)) {
-                Authentication authentication = tokenProvider.buildAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        Optional<Authentication> authentication = identityVerifier.verify(request.getHeader(GatewayIdentityVerifier.HEADER));
+        if (authentication.isEmpty() && StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
+            authentication = tokenProvider.authenticate(bearer.substring(7));
         }
+        authentication.ifPresent(SecurityContextHolder.getContext()::setAuthentication);
         filterChain.doFilter(request, response);
     }
 }
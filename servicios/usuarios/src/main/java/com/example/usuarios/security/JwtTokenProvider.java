@@ -2,17 +2,28 @@ package com.example.usuarios.security;
 
 import com.example.usuarios.config.JwtProperties;
 import com.example.usuarios.entity.UserEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -22,16 +33,27 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     private final JwtProperties properties;
     private final Key signingKey;
+    private final JwtParser parser;
+    // Tokens ya verificados, por SHA-256 del token (no se guardan tokens en memoria) y hasta su exp.
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(JwtProperties properties) {
         this.properties = properties;
         Assert.hasText(properties.getSecret(), "La propiedad jwt.secret es obligatoria");
         Assert.isTrue(properties.getSecret().length() >= 32, "La propiedad jwt.secret debe tener al menos 32 caracteres");
         this.signingKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCacheSize())
+                .expireAfter(new UntilExpiration())
+                .recordStats()
+                .build();
     }
 
     public String generateToken(UserEntity user) {
@@ -50,31 +72,89 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // Verificacion en una sola pasada: vacio si el token no es valido o ya expiro.
+    public Optional<Authentication> authenticate(String token) {
+        return verify(token).map(verified -> toAuthentication(verified, token));
+    }
+
     public Authentication buildAuthentication(String token) {
-        Claims claims = parse(token);
-        GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + claims.get("role", String.class));
-        User principal = new User(claims.get("email", String.class), token, List.of(authority));
-        return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+        VerifiedToken verified = verify(token)
+                .orElseThrow(() -> new JwtException("Token invalido"));
+        return toAuthentication(verified, token);
     }
 
     public boolean validate(String token) {
+        return verify(token).isPresent();
+    }
+
+    public long getAccessTokenValiditySeconds() {
+        return properties.getAccessTokenValiditySeconds();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.verificados");
+    }
+
+    private Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Los tokens invalidos no se guardan: no se puede llenar la cache con basura.
         try {
-            parse(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            VerifiedToken verified = new VerifiedToken(
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration().toInstant());
+            verifiedTokens.put(digest, verified);
+            return Optional.of(verified);
         } catch (JwtException | IllegalArgumentException ex) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    public long getAccessTokenValiditySeconds() {
-        return properties.getAccessTokenValiditySeconds();
+    private Authentication toAuthentication(VerifiedToken verified, String token) {
+        GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + verified.role());
+        User principal = new User(verified.email(), token, List.of(authority));
+        return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
     }
 
-    private Claims parse(String token) {
-        Jws<Claims> jws = Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token);
-        return jws.getBody();
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    private record VerifiedToken(String email, String role, Instant expiresAt) {
+    }
+
+    private static final class UntilExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
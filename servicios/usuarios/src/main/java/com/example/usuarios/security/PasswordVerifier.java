@@ -0,0 +1,67 @@
+package com.example.usuarios.security;
+
+import com.example.usuarios.config.PasswordHashingProperties;
+import com.example.usuarios.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compara contrasenas en un pool acotado para que BCrypt no ocupe los hilos de Tomcat. Con el pool y la cola
+ * llenos se rechaza de inmediato (503) en lugar de acumular logins. Metricas: executor.* con
+ * name=auth.password.hashing, auth.password.verify y auth.password.rejected.
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+    // Hash de relleno para usuarios inexistentes: el tiempo de respuesta no revela si el email existe.
+    private final String dummyHash;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, MeterRegistry registry) {
+        this.passwordEncoder = passwordEncoder;
+        this.pool = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(registry, pool, "auth.password.hashing");
+        this.verifyTimer = Timer.builder("auth.password.verify").register(registry);
+        this.rejected = Counter.builder("auth.password.rejected").register(registry);
+        this.dummyHash = passwordEncoder.encode("password-verifier-dummy");
+    }
+
+    // Un hash nulo (usuario inexistente o sin contrasena local) se compara igual contra el de relleno y falla.
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> verifyTimer.record(() -> {
+                if (encodedPassword == null) {
+                    passwordEncoder.matches(rawPassword, dummyHash);
+                    return false;
+                }
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            }), executor);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Demasiados inicios de sesion simultaneos, intente de nuevo");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
@@ -8,50 +8,47 @@ import com.example.usuarios.entity.AuthProvider;
 import com.example.usuarios.entity.Role;
 import com.example.usuarios.entity.UserEntity;
 import com.example.usuarios.exception.BusinessRuleException;
-import com.example.usuarios.exception.ResourceNotFoundException;
 import com.example.usuarios.mapper.UserMapper;
 import com.example.usuarios.repository.UserRepository;
 import com.example.usuarios.security.JwtTokenProvider;
-import com.example.usuarios.security.UserPrincipal;
+import com.example.usuarios.security.PasswordVerifier;
 import jakarta.transaction.Transactional;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuthService {
 
-    private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final PasswordVerifier passwordVerifier;
 
-    public AuthService(AuthenticationManager authenticationManager,
-                       UserRepository userRepository,
+    public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       JwtTokenProvider tokenProvider) {
-        this.authenticationManager = authenticationManager;
+                       JwtTokenProvider tokenProvider,
+                       PasswordVerifier passwordVerifier) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.passwordVerifier = passwordVerifier;
     }
 
-    public AuthResponse login(AuthRequest request) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(request.email(), request.password())
-            );
-            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
-            UserEntity user = userRepository.findByEmail(principal.getUsername())
-                    .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
-            String token = tokenProvider.generateToken(user);
-            return new AuthResponse(token, tokenValidity());
-        } catch (BadCredentialsException ex) {
-            throw new BusinessRuleException("Credenciales invalidas");
-        }
+    // Una sola lectura del usuario; BCrypt corre en el pool acotado y el hilo de la peticion queda libre.
+    public CompletableFuture<AuthResponse> login(AuthRequest request) {
+        UserEntity user = userRepository.findByEmail(request.email()).orElse(null);
+        String encodedPassword = user != null ? user.getPassword() : null;
+        return passwordVerifier.matches(request.password(), encodedPassword)
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new BusinessRuleException("Credenciales invalidas");
+                    }
+                    if (!user.isEnabled()) {
+                        throw new BusinessRuleException("Usuario deshabilitado");
+                    }
+                    return new AuthResponse(tokenProvider.generateToken(user), tokenValidity());
+                });
     }
 
     @Transactional
@@ -0,0 +1,195 @@
+package com.example.usuarios.service;
+
+import com.example.usuarios.config.ReadOnlyTransactional;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+// Exporta el progreso de un curso leyendo con un cursor de solo avance y escribiendo cada fila al llegar:
+// la memoria es constante y el primer byte sale antes de terminar la consulta.
+@Service
+public class CourseProgressExportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String EXPORT_SQL = """
+            select u.email, u.full_name, e.id, e.status, e.enrolled_at, e.last_status_change,
+                   mp.module_id, mp.status, mp.completed_chapters
+            from course_enrollments e
+            join users u on u.id = e.user_id
+            left join module_progress mp on mp.enrollment_id = e.id
+            where e.course_id = ?
+            order by e.enrolled_at, e.id, mp.module_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CourseProgressExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // La transaccion de solo lectura es necesaria para que Postgres use el fetch size como cursor.
+    @ReadOnlyTransactional
+    public void export(UUID courseId, ReportFormat format, OutputStream out) {
+        try {
+            ExportWriter writer = format == ReportFormat.CSV
+                    ? new CsvExportWriter(out)
+                    : new NdjsonExportWriter(objectMapper.getFactory().createGenerator(out));
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, courseId);
+                return statement;
+            }, writer);
+            writer.finish();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private interface ExportWriter extends RowCallbackHandler {
+
+        void finish() throws IOException;
+    }
+
+    // Una fila por participante y modulo; los participantes sin progreso llevan las columnas de modulo vacias.
+    private static final class CsvExportWriter implements ExportWriter {
+
+        private static final String HEADER =
+                "email,nombre,estado,inscrito,ultimo_cambio,modulo,estado_modulo,capitulos_completados";
+
+        private final Writer writer;
+
+        private CsvExportWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            // BOM para que las hojas de calculo reconozcan UTF-8; el encabezado se envia de inmediato.
+            writer.write('\uFEFF');
+            writer.write(HEADER);
+            writer.write('\n');
+            writer.flush();
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                writer.write(cell(rs.getString(1)));
+                writer.write(',');
+                writer.write(cell(rs.getString(2)));
+                writer.write(',');
+                writer.write(rs.getString(4));
+                writer.write(',');
+                writer.write(instant(rs, 5));
+                writer.write(',');
+                writer.write(instant(rs, 6));
+                writer.write(',');
+                Object moduleId = rs.getObject(7);
+                if (moduleId != null) {
+                    writer.write(moduleId.toString());
+                    writer.write(',');
+                    writer.write(rs.getString(8));
+                    writer.write(',');
+                    writer.write(Integer.toString(rs.getInt(9)));
+                } else {
+                    writer.write(",,");
+                }
+                writer.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        // Comillas segun RFC 4180; los valores que empiezan como formula se neutralizan con un apostrofo.
+        private static String cell(String value) {
+            if (value == null || value.isEmpty()) {
+                return "";
+            }
+            String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+            if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+                return '"' + safe.replace("\"", "\"\"") + '"';
+            }
+            return safe;
+        }
+    }
+
+    // Un objeto por participante con sus modulos; las filas llegan agrupadas por inscripcion.
+    private static final class NdjsonExportWriter implements ExportWriter {
+
+        private final JsonGenerator json;
+        private Object enrollmentId;
+
+        private NdjsonExportWriter(JsonGenerator json) {
+            this.json = json;
+            json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                Object rowEnrollment = rs.getObject(3);
+                if (!rowEnrollment.equals(enrollmentId)) {
+                    finishParticipant();
+                    enrollmentId = rowEnrollment;
+                    json.writeStartObject();
+                    json.writeStringField("enrollmentId", rowEnrollment.toString());
+                    json.writeStringField("userEmail", rs.getString(1));
+                    json.writeStringField("fullName", rs.getString(2));
+                    json.writeStringField("status", rs.getString(4));
+                    json.writeStringField("enrolledAt", instant(rs, 5));
+                    json.writeStringField("lastStatusChange", instant(rs, 6));
+                    json.writeArrayFieldStart("modules");
+                }
+                Object moduleId = rs.getObject(7);
+                if (moduleId != null) {
+                    json.writeStartObject();
+                    json.writeStringField("moduleId", moduleId.toString());
+                    json.writeStringField("status", rs.getString(8));
+                    json.writeNumberField("completedChapters", rs.getInt(9));
+                    json.writeEndObject();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            finishParticipant();
+            json.close();
+        }
+
+        private void finishParticipant() throws IOException {
+            if (enrollmentId != null) {
+                json.writeEndArray();
+                json.writeEndObject();
+                json.writeRaw('\n');
+            }
+        }
+    }
+
+    private static String instant(ResultSet rs, int column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant().toString() : "";
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.usuarios.service;
 
+import com.example.usuarios.config.ReadOnlyTransactional;
 import com.example.usuarios.dto.CourseParticipantProgressResponse;
 import com.example.usuarios.dto.CourseProgressSummaryResponse;
 import com.example.usuarios.dto.CreateEnrollmentRequest;
@@ -16,18 +17,23 @@ import com.example.usuarios.exception.BusinessRuleException;
 import com.example.usuarios.exception.ResourceNotFoundException;
 import com.example.usuarios.mapper.EnrollmentMapper;
 import com.example.usuarios.repository.CourseEnrollmentRepository;
+import com.example.usuarios.repository.EnrollmentStatusTotal;
 import com.example.usuarios.repository.ModuleProgressRepository;
 import com.example.usuarios.repository.UserRepository;
 import jakarta.transaction.Transactional;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
 public class EnrollmentService {
 
+    public static final int MAX_PARTICIPANTS_PAGE = 500;
+
     private final CourseEnrollmentRepository enrollmentRepository;
     private final ModuleProgressRepository moduleProgressRepository;
     private final UserRepository userRepository;
@@ -80,12 +86,16 @@ public class EnrollmentService {
         return EnrollmentMapper.toModuleResponse(saved);
     }
 
+    // Listado propio del alumno: sin @ReadOnlyTransactional sigue en el primario para que vea su inscripcion
+    // recien creada aunque la replica vaya atrasada.
     public List<EnrollmentResponse> listEnrollments(UUID userId) {
         return enrollmentRepository.findByUser_Id(userId).stream()
                 .map(EnrollmentMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    // Reporte de staff por usuario: tolera el retraso de la replica.
+    @ReadOnlyTransactional
     public UserProgressSummaryResponse userProgress(UUID userId) {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado"));
@@ -93,17 +103,32 @@ public class EnrollmentService {
         return new UserProgressSummaryResponse(user.getId(), user.getEmail(), user.getFullName(), enrollments);
     }
 
-    public CourseProgressSummaryResponse courseProgress(UUID courseId) {
-        List<CourseEnrollmentEntity> enrollments = enrollmentRepository.findByCourseId(courseId);
-        if (enrollments.isEmpty()) {
+    // Totales con GROUP BY y participantes por paginas (enrolled_at, id): la memoria no depende del tamano del curso.
+    @ReadOnlyTransactional
+    public CourseProgressSummaryResponse courseProgress(UUID courseId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PARTICIPANTS_PAGE) {
+            throw new BusinessRuleException("El limite debe estar entre 1 y " + MAX_PARTICIPANTS_PAGE);
+        }
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (EnrollmentStatusTotal total : enrollmentRepository.countByStatus(courseId)) {
+            totals.put(total.status().name(), total.total());
+        }
+        if (totals.isEmpty()) {
             throw new ResourceNotFoundException("No hay inscripciones para el curso");
         }
-        Map<String, Long> totals = enrollments.stream()
-                .collect(Collectors.groupingBy(enrollment -> enrollment.getStatus().name(), Collectors.counting()));
-        List<CourseParticipantProgressResponse> participants = enrollments.stream()
-                .map(EnrollmentMapper::toParticipantResponse)
-                .collect(Collectors.toList());
-        return new CourseProgressSummaryResponse(courseId, totals, participants);
+        // Se pide un registro extra para saber si existe una pagina siguiente sin hacer un count.
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<CourseParticipantProgressResponse> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            ParticipantCursor after = ParticipantCursor.decode(cursor);
+            rows = enrollmentRepository.findParticipantsAfter(courseId, after.enrolledAt(), after.id(), page);
+        } else {
+            rows = enrollmentRepository.findParticipants(courseId, page);
+        }
+        boolean hasMore = rows.size() > limit;
+        List<CourseParticipantProgressResponse> participants = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? ParticipantCursor.after(participants.get(limit - 1)).encode() : null;
+        return new CourseProgressSummaryResponse(courseId, totals, participants, nextCursor);
     }
 
     private void refreshEnrollmentStatus(CourseEnrollmentEntity enrollment) {
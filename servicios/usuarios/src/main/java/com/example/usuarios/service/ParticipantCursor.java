@@ -0,0 +1,35 @@
+package com.example.usuarios.service;
+
+import com.example.usuarios.dto.CourseParticipantProgressResponse;
+import com.example.usuarios.exception.BusinessRuleException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+// Posicion en el listado de participantes, ordenado por (enrolled_at, id).
+record ParticipantCursor(Instant enrolledAt, UUID id) {
+
+    static ParticipantCursor after(CourseParticipantProgressResponse last) {
+        return new ParticipantCursor(last.enrolledAt(), last.enrollmentId());
+    }
+
+    String encode() {
+        String raw = enrolledAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ParticipantCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new BusinessRuleException("Cursor invalido");
+            }
+            return new ParticipantCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessRuleException("Cursor invalido");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.usuarios.service;
+
+import com.example.usuarios.exception.BusinessRuleException;
+import java.util.Locale;
+
+public enum ReportFormat {
+    CSV,
+    NDJSON;
+
+    public static ReportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleException("Formato no soportado: " + value);
+        }
+    }
+}
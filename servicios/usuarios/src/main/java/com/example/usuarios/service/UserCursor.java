@@ -0,0 +1,25 @@
+package com.example.usuarios.service;
+
+import com.example.usuarios.exception.BusinessRuleException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Posicion en el directorio de usuarios, ordenado por email.
+record UserCursor(String email) {
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(email.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserCursor decode(String cursor) {
+        try {
+            String email = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (email.isBlank()) {
+                throw new BusinessRuleException("Cursor invalido");
+            }
+            return new UserCursor(email);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleException("Cursor invalido");
+        }
+    }
+}
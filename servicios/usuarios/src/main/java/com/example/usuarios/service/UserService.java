@@ -1,7 +1,10 @@
 package com.example.usuarios.service;
 
+import com.example.usuarios.config.ReadOnlyTransactional;
+import com.example.usuarios.dto.PageResponse;
 import com.example.usuarios.dto.RegisterUserRequest;
 import com.example.usuarios.dto.UpdateUserRequest;
+import com.example.usuarios.dto.UserListQuery;
 import com.example.usuarios.dto.UserResponse;
 import com.example.usuarios.entity.AuthProvider;
 import com.example.usuarios.entity.UserEntity;
@@ -19,6 +22,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -27,10 +32,28 @@ public class UserService {
         this.passwordEncoder = passwordEncoder;
     }
 
-    public List<UserResponse> findAll() {
-        return userRepository.findAll().stream()
-                .map(UserMapper::toResponse)
-                .collect(Collectors.toList());
+    @ReadOnlyTransactional
+    public PageResponse<UserResponse> findPage(UserListQuery query) {
+        if (query.limit() < 1 || query.limit() > MAX_PAGE_SIZE) {
+            throw new BusinessRuleException("El limite debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        String afterEmail = query.cursor() != null ? UserCursor.decode(query.cursor()).email() : null;
+        // Se pide un registro extra para saber si existe una pagina siguiente sin hacer un count.
+        List<UserEntity> rows = userRepository.findPage(
+                query.role(),
+                query.provider(),
+                query.enabled(),
+                query.search(),
+                afterEmail,
+                query.limit() + 1
+        );
+        boolean hasMore = rows.size() > query.limit();
+        List<UserEntity> page = hasMore ? rows.subList(0, query.limit()) : rows;
+        String nextCursor = hasMore ? new UserCursor(page.get(page.size() - 1).getEmail()).encode() : null;
+        return new PageResponse<>(
+                page.stream().map(UserMapper::toResponse).collect(Collectors.toList()),
+                nextCursor
+        );
     }
 
     public UserResponse findById(UUID id) {
@@ -0,0 +1,5 @@
+-- Reporte por curso: totales por estado con un recorrido solo del indice y participantes por (enrolled_at, id).
+CREATE INDEX idx_course_enrollments_course_status ON course_enrollments(course_id, status);
+CREATE INDEX idx_course_enrollments_course_enrolled ON course_enrollments(course_id, enrolled_at, id);
+-- Prefijo de los dos anteriores.
+DROP INDEX idx_course_enrollments_course;
@@ -0,0 +1,9 @@
+-- Directorio de usuarios paginado por email (el indice del UNIQUE cubre el listado sin filtros).
+CREATE INDEX idx_users_role_email ON users(role, email);
+CREATE INDEX idx_users_provider_email ON users(provider, email);
+-- Los deshabilitados son pocos: indice parcial en vez de uno sobre un booleano.
+CREATE INDEX idx_users_disabled_email ON users(email) WHERE NOT enabled;
+
+-- Busqueda por prefijo sin distinguir mayusculas (lower(...) LIKE 'abc%') en email y nombre.
+CREATE INDEX idx_users_email_prefix ON users(lower(email) text_pattern_ops);
+CREATE INDEX idx_users_full_name_prefix ON users(lower(full_name) text_pattern_ops);
@@ -0,0 +1,40 @@
+package com.example.usuarios.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(DataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:config-primario",
+                    "spring.datasource.username=sa",
+                    "usuarios.datasource.replica.url=jdbc:h2:mem:config-replica",
+                    "spring.datasource.hikari.maximum-pool-size=7",
+                    "spring.datasource.hikari.connection-timeout=1500",
+                    "usuarios.datasource.replica.hikari.maximum-pool-size=3");
+
+    @Test
+    void pools_bind_their_hikari_properties() {
+        contextRunner.run(context -> {
+            HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+            HikariDataSource replica = context.getBean("replicaDataSource", HikariDataSource.class);
+
+            assertThat(primary.getMaximumPoolSize()).isEqualTo(7);
+            assertThat(primary.getConnectionTimeout()).isEqualTo(1500);
+            assertThat(primary.getPoolName()).isEqualTo("usuarios-primary");
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(replica.isReadOnly()).isTrue();
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        });
+    }
+}
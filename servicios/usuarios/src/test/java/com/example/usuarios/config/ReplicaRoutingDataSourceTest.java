@@ -0,0 +1,78 @@
+package com.example.usuarios.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = h2("primario");
+    private final DataSource replica = h2("replica");
+
+    @Test
+    void read_only_transactions_go_to_the_replica() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing(replica, "SELECT 0"));
+
+        assertThat(databaseIn(dataSource, true)).isEqualTo("REPLICA");
+        assertThat(databaseIn(dataSource, false)).isEqualTo("PRIMARIO");
+    }
+
+    @Test
+    void lagging_replica_falls_back_to_primary() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing(replica, "SELECT 30"));
+
+        assertThat(databaseIn(dataSource, true)).isEqualTo("PRIMARIO");
+    }
+
+    @Test
+    void unreachable_replica_falls_back_to_primary() {
+        DataSource missing = new DriverManagerDataSource("jdbc:h2:mem:no-existe;IFEXISTS=TRUE", "sa", "");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing(missing, "SELECT 0"));
+
+        assertThat(databaseIn(dataSource, true)).isEqualTo("PRIMARIO");
+    }
+
+    private ReplicaRoutingDataSource routing(DataSource replicaDataSource, String lagQuery) {
+        return new ReplicaRoutingDataSource(primary, replicaDataSource, Duration.ofSeconds(5), Duration.ofMinutes(1),
+                lagQuery);
+    }
+
+    // Como en la aplicacion: JpaTransactionManager pide la conexion al empezar, antes de marcar la transaccion
+    // como de solo lectura, asi que la eleccion depende de que el proxy la retrase hasta la primera consulta.
+    private String databaseIn(DataSource dataSource, boolean readOnly) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(getClass().getPackageName());
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        try {
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            TransactionTemplate transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+            transaction.setReadOnly(readOnly);
+            return transaction.execute(status ->
+                    (String) entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult());
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("SELECT 1");
+        return dataSource;
+    }
+}
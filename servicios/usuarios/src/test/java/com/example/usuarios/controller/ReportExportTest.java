@@ -0,0 +1,117 @@
+package com.example.usuarios.controller;
+
+import com.example.usuarios.dto.CreateEnrollmentRequest;
+import com.example.usuarios.dto.EnrollmentResponse;
+import com.example.usuarios.dto.ModuleProgressRequest;
+import com.example.usuarios.entity.AuthProvider;
+import com.example.usuarios.entity.EnrollmentStatus;
+import com.example.usuarios.entity.Role;
+import com.example.usuarios.entity.UserEntity;
+import com.example.usuarios.repository.UserRepository;
+import com.example.usuarios.service.EnrollmentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "INSTRUCTOR")
+class ReportExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID courseId;
+    private UUID moduleId;
+
+    @BeforeEach
+    void setUp() {
+        courseId = UUID.randomUUID();
+        moduleId = UUID.randomUUID();
+        UserEntity first = user("Ana, Perez");
+        EnrollmentResponse enrollment = enrollmentService.enroll(first.getId(), new CreateEnrollmentRequest(courseId));
+        enrollmentService.upsertModuleProgress(first.getId(), enrollment.id(),
+                new ModuleProgressRequest(moduleId, EnrollmentStatus.EN_PROGRESO, 3));
+        UserEntity second = user("=Luis");
+        enrollmentService.enroll(second.getId(), new CreateEnrollmentRequest(courseId));
+    }
+
+    @Test
+    void csv_export_has_one_row_per_participant_and_module() throws Exception {
+        String csv = export("csv", "text/csv");
+
+        List<String> lines = csv.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo(
+                "\uFEFFemail,nombre,estado,inscrito,ultimo_cambio,modulo,estado_modulo,capitulos_completados");
+        assertThat(lines.get(1)).contains(",\"Ana, Perez\",EN_PROGRESO,").endsWith("," + moduleId + ",EN_PROGRESO,3");
+        assertThat(lines.get(2)).contains(",'=Luis,INICIADO,").endsWith(",,,");
+    }
+
+    @Test
+    void ndjson_export_groups_modules_per_participant() throws Exception {
+        String ndjson = export("ndjson", MediaType.APPLICATION_NDJSON_VALUE);
+
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.path("fullName").asText()).isEqualTo("Ana, Perez");
+        assertThat(first.path("modules").get(0).path("completedChapters").asInt()).isEqualTo(3);
+        assertThat(objectMapper.readTree(lines.get(1)).path("modules")).isEmpty();
+    }
+
+    @Test
+    void unknown_format_is_rejected() throws Exception {
+        mockMvc.perform(get("/reportes/cursos/{id}/exportar", courseId).param("formato", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(String format, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(get("/reportes/cursos/{id}/exportar", courseId).param("formato", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private UserEntity user(String fullName) {
+        return userRepository.save(UserEntity.builder()
+                .email("export-" + UUID.randomUUID() + "@test.com")
+                .fullName(fullName)
+                .role(Role.USER)
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+    }
+}
@@ -4,6 +4,7 @@ import com.example.usuarios.config.JwtProperties;
 import com.example.usuarios.entity.AuthProvider;
 import com.example.usuarios.entity.Role;
 import com.example.usuarios.entity.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
@@ -38,5 +39,40 @@ class JwtTokenProviderTest {
         assertThat(auth.getName()).isEqualTo("user@test.com");
         assertThat(auth.getAuthorities()).extracting("authority").contains("ROLE_USER");
     }
-}
 
+    @Test
+    void verified_tokens_are_served_from_cache_and_tampered_ones_rejected() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret("abcdefghijklmnopqrstuvwxyz1234567890abcd");
+        props.setAccessTokenValiditySeconds(3600);
+        JwtTokenProvider provider = new JwtTokenProvider(props);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        provider.bindTo(registry);
+
+        UserEntity user = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("admin@test.com")
+                .fullName("Admin Test")
+                .role(Role.ADMIN)
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+        String token = provider.generateToken(user);
+
+        assertThat(provider.authenticate(token)).hasValueSatisfying(auth -> {
+            assertThat(auth.getName()).isEqualTo("admin@test.com");
+            assertThat(auth.getAuthorities()).extracting("authority").contains("ROLE_ADMIN");
+        });
+        assertThat(provider.authenticate(token)).isPresent();
+        assertThat(registry.get("cache.gets").tag("cache", "jwt.verificados").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertThat(provider.authenticate(tampered)).isEmpty();
+        assertThat(provider.authenticate("")).isEmpty();
+        assertThat(provider.validate(tampered)).isFalse();
+
+        props.setAccessTokenValiditySeconds(-60);
+        assertThat(provider.authenticate(provider.generateToken(user))).isEmpty();
+    }
+}
@@ -1,40 +1,107 @@
 package com.example.usuarios.service;
 
+import com.example.usuarios.config.PasswordHashingProperties;
+import com.example.usuarios.dto.AuthRequest;
+import com.example.usuarios.dto.AuthResponse;
 import com.example.usuarios.dto.RegisterUserRequest;
 import com.example.usuarios.dto.UserResponse;
 import com.example.usuarios.entity.AuthProvider;
 import com.example.usuarios.entity.Role;
 import com.example.usuarios.entity.UserEntity;
+import com.example.usuarios.exception.BusinessRuleException;
+import com.example.usuarios.exception.ServiceUnavailableException;
 import com.example.usuarios.repository.UserRepository;
 import com.example.usuarios.security.JwtTokenProvider;
+import com.example.usuarios.security.PasswordVerifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class AuthServiceTest {
 
-    private AuthenticationManager authenticationManager;
     private UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
     private JwtTokenProvider tokenProvider;
+    private PasswordVerifier passwordVerifier;
     private AuthService authService;
 
     @BeforeEach
     void setUp() {
-        authenticationManager = mock(AuthenticationManager.class);
         userRepository = mock(UserRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
         tokenProvider = mock(JwtTokenProvider.class);
-        authService = new AuthService(authenticationManager, userRepository, passwordEncoder, tokenProvider);
+        PasswordHashingProperties hashing = new PasswordHashingProperties();
+        hashing.setThreads(1);
+        hashing.setQueueCapacity(1);
+        passwordVerifier = new PasswordVerifier(passwordEncoder, hashing, new SimpleMeterRegistry());
+        authService = new AuthService(userRepository, passwordEncoder, tokenProvider, passwordVerifier);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.destroy();
+    }
+
+    @Test
+    void login_loads_user_once_and_issues_token() {
+        UserEntity user = localUser("ana@portal.com", "HASH");
+        when(userRepository.findByEmail("ana@portal.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Secret123!", "HASH")).thenReturn(true);
+        when(tokenProvider.generateToken(user)).thenReturn("TOKEN");
+        when(tokenProvider.getAccessTokenValiditySeconds()).thenReturn(3600L);
+
+        AuthResponse response = authService.login(new AuthRequest("ana@portal.com", "Secret123!")).join();
+
+        assertThat(response.accessToken()).isEqualTo("TOKEN");
+        verify(userRepository, times(1)).findByEmail("ana@portal.com");
+    }
+
+    @Test
+    void login_rejects_wrong_password_and_unknown_user_alike() {
+        when(userRepository.findByEmail("ana@portal.com")).thenReturn(Optional.of(localUser("ana@portal.com", "HASH")));
+        when(userRepository.findByEmail("nadie@portal.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.login(new AuthRequest("ana@portal.com", "otra")).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BusinessRuleException.class)
+                .hasRootCauseMessage("Credenciales invalidas");
+        assertThatThrownBy(() -> authService.login(new AuthRequest("nadie@portal.com", "otra")).join())
+                .hasRootCauseMessage("Credenciales invalidas");
+        verify(tokenProvider, never()).generateToken(any());
+    }
+
+    @Test
+    void login_fails_fast_when_hashing_pool_is_saturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findByEmail("ana@portal.com")).thenReturn(Optional.of(localUser("ana@portal.com", "HASH")));
+        when(passwordEncoder.matches("Secret123!", "HASH")).thenAnswer(inv -> {
+            release.await();
+            return false;
+        });
+        AuthRequest request = new AuthRequest("ana@portal.com", "Secret123!");
+
+        CompletableFuture<AuthResponse> running = authService.login(request);
+        CompletableFuture<AuthResponse> queued = authService.login(request);
+        assertThatThrownBy(() -> authService.login(request)).isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThatThrownBy(running::join).hasRootCauseMessage("Credenciales invalidas");
+        assertThatThrownBy(queued::join).hasRootCauseMessage("Credenciales invalidas");
     }
 
     @Test
@@ -72,5 +139,16 @@ class AuthServiceTest {
         assertThat(response.role()).isEqualTo(Role.INSTRUCTOR);
         assertThat(response.provider()).isEqualTo(AuthProvider.LOCAL);
     }
-}
 
+    private static UserEntity localUser(String email, String password) {
+        return UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .fullName("Usuario")
+                .password(password)
+                .role(Role.USER)
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.usuarios.service;
+
+import com.example.usuarios.dto.CourseParticipantProgressResponse;
+import com.example.usuarios.dto.CourseProgressSummaryResponse;
+import com.example.usuarios.dto.CreateEnrollmentRequest;
+import com.example.usuarios.dto.EnrollmentResponse;
+import com.example.usuarios.dto.UpdateEnrollmentStatusRequest;
+import com.example.usuarios.entity.AuthProvider;
+import com.example.usuarios.entity.EnrollmentStatus;
+import com.example.usuarios.entity.Role;
+import com.example.usuarios.entity.UserEntity;
+import com.example.usuarios.exception.BusinessRuleException;
+import com.example.usuarios.exception.ResourceNotFoundException;
+import com.example.usuarios.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseProgressReportTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void totals_are_grouped_and_participants_are_paged() {
+        UUID courseId = UUID.randomUUID();
+        List<UUID> enrollmentIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UserEntity user = user("reporte" + i);
+            EnrollmentResponse enrollment = enrollmentService.enroll(user.getId(), new CreateEnrollmentRequest(courseId));
+            if (i < 2) {
+                enrollmentService.updateStatus(user.getId(), enrollment.id(),
+                        new UpdateEnrollmentStatusRequest(EnrollmentStatus.COMPLETADO));
+            }
+            enrollmentIds.add(enrollment.id());
+        }
+
+        List<CourseParticipantProgressResponse> participants = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CourseProgressSummaryResponse page = enrollmentService.courseProgress(courseId, cursor, 2);
+            assertThat(page.totalsByStatus()).containsEntry("COMPLETADO", 2L).containsEntry("INICIADO", 3L);
+            participants.addAll(page.participants());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(participants).extracting(CourseParticipantProgressResponse::enrollmentId)
+                .containsExactlyInAnyOrderElementsOf(enrollmentIds)
+                .doesNotHaveDuplicates();
+        assertThat(participants.get(0).userEmail()).endsWith("@test.com");
+    }
+
+    @Test
+    void course_without_enrollments_is_not_found() {
+        assertThatThrownBy(() -> enrollmentService.courseProgress(UUID.randomUUID(), null, 10))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void invalid_cursor_and_limit_are_rejected() {
+        UUID courseId = UUID.randomUUID();
+        UserEntity user = user("limite");
+        enrollmentService.enroll(user.getId(), new CreateEnrollmentRequest(courseId));
+
+        assertThatThrownBy(() -> enrollmentService.courseProgress(courseId, null, 0))
+                .isInstanceOf(BusinessRuleException.class);
+        assertThatThrownBy(() -> enrollmentService.courseProgress(courseId, "no-es-un-cursor", 10))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    private UserEntity user(String name) {
+        return userRepository.save(UserEntity.builder()
+                .email(name + "-" + UUID.randomUUID() + "@test.com")
+                .fullName(name)
+                .role(Role.USER)
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.usuarios.service;
+
+import com.example.usuarios.dto.PageResponse;
+import com.example.usuarios.dto.RegisterUserRequest;
+import com.example.usuarios.dto.UpdateUserRequest;
+import com.example.usuarios.dto.UserListQuery;
+import com.example.usuarios.dto.UserResponse;
+import com.example.usuarios.entity.AuthProvider;
+import com.example.usuarios.entity.Role;
+import com.example.usuarios.exception.BusinessRuleException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserDirectoryTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void pages_follow_email_order_with_filters() {
+        String prefix = "dir" + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 5; i++) {
+            userService.create(new RegisterUserRequest(prefix + i + "@test.com", "secreta123", "Persona " + i, Role.USER));
+        }
+        UserResponse instructor = userService.create(
+                new RegisterUserRequest(prefix + "9@test.com", "secreta123", "Instructora", Role.INSTRUCTOR));
+
+        List<String> emails = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageResponse<UserResponse> page = userService.findPage(
+                    new UserListQuery(Role.USER, AuthProvider.LOCAL, true, prefix.toUpperCase(), cursor, 2));
+            page.items().forEach(user -> emails.add(user.email()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(emails).containsExactly(
+                prefix + "0@test.com", prefix + "1@test.com", prefix + "2@test.com",
+                prefix + "3@test.com", prefix + "4@test.com");
+
+        userService.update(instructor.id(), new UpdateUserRequest("Instructora", Role.INSTRUCTOR, false));
+        assertThat(userService.findPage(new UserListQuery(null, null, false, "instructora", null, 10)).items())
+                .extracting(UserResponse::id)
+                .contains(instructor.id());
+    }
+
+    @Test
+    void invalid_limit_and_cursor_are_rejected() {
+        assertThatThrownBy(() -> userService.findPage(new UserListQuery(null, null, null, null, null, 0)))
+                .isInstanceOf(BusinessRuleException.class);
+        assertThatThrownBy(() -> userService.findPage(new UserListQuery(null, null, null, null, "%%%", 10)))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+}